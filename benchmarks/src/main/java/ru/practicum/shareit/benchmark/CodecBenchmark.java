@@ -0,0 +1,102 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.item.ItemMapper;
+import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON against Smile on the gateway to server hop. The server writes the DTOs, the gateway reads them into
+ * plain maps and lists as {@code BaseClient} does. The payload size is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+    @Param({"JSON", "SMILE"})
+    public String codec;
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<BookingResponseDto> bookingPage;
+    private List<ItemWithBookingsDto> itemPage;
+    private byte[] bookingPageBytes;
+    private byte[] itemPageBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = "SMILE".equals(codec) ? Fixtures.smileMapper() : Fixtures.objectMapper();
+        writer = mapper.writer();
+        reader = mapper.readerFor(Object.class);
+
+        User owner = Fixtures.user(1);
+        User booker = Fixtures.user(2);
+        Item item = Fixtures.item(1, owner, 5);
+        List<Booking> bookings = Fixtures.bookings(item.getId(), booker.getId(), size);
+
+        BookingMapper bookingMapper = new BookingMapper(Fixtures.stub(ItemService.class, item),
+                Fixtures.stub(UserService.class, booker));
+        bookingPage = new ArrayList<>(size);
+        itemPage = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bookingPage.add(bookingMapper.toBookingResponseDto(bookings.get(i)));
+            itemPage.add(ItemMapper.toItemWithBookingsDto(Fixtures.item(i, owner, 5), bookings.get(0),
+                    bookings.get(1)));
+        }
+
+        bookingPageBytes = writer.writeValueAsBytes(bookingPage);
+        itemPageBytes = writer.writeValueAsBytes(itemPage);
+        System.out.printf("%n%s payload: bookings %d bytes, items %d bytes%n", codec, bookingPageBytes.length,
+                itemPageBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeBookingPage() throws IOException {
+        return writer.writeValueAsBytes(bookingPage);
+    }
+
+    @Benchmark
+    public Object readBookingPage() throws IOException {
+        return reader.readValue(bookingPageBytes);
+    }
+
+    @Benchmark
+    public byte[] writeItemPage() throws IOException {
+        return writer.writeValueAsBytes(itemPage);
+    }
+
+    @Benchmark
+    public Object readItemPage() throws IOException {
+        return reader.readValue(itemPageBytes);
+    }
+}
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.user.model.User;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds entity graphs shaped like production data for the benchmarks.
+ */
+public class Fixtures {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 6, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    public static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@shareit.ru")
+                .build();
+    }
+
+    public static Item item(long id, User owner, int comments) {
+        Item item = Item.builder()
+                .id(id)
+                .name("Cordless drill " + id)
+                .description("18V cordless drill with two batteries, a charger and a case full of bits")
+                .available(true)
+                .owner(owner)
+                .build();
+        item.setComments(comments(item, comments));
+        return item;
+    }
+
+    public static List<Comment> comments(Item item, int count) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            comments.add(Comment.builder()
+                    .id((long) i)
+                    .item(item)
+                    .user(user(1000 + i % 50))
+                    .text("Worked great for hanging shelves, battery lasted the whole weekend. Comment #" + i)
+                    .created(NOW.minusHours(i))
+                    .build());
+        }
+        return comments;
+    }
+
+    public static List<Booking> bookings(long itemId, long bookerId, int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bookings.add(Booking.builder()
+                    .id((long) i)
+                    .itemId(itemId)
+                    .bookerId(bookerId)
+                    .start(NOW.plusDays(i))
+                    .end(NOW.plusDays(i + 1))
+                    .status(BookingStatus.APPROVED)
+                    .build());
+        }
+        return bookings;
+    }
+
+    public static Request request(long id, User owner, int items) {
+        List<Item> requestItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Item item = item(id * 100 + i, owner, 0);
+            item.setRequestId(id);
+            requestItems.add(item);
+        }
+
+        return Request.builder()
+                .id(id)
+                .userId(owner.getId() + 1)
+                .description("Need a drill for the weekend, will return it on Monday")
+                .created(NOW)
+                .items(requestItems)
+                .build();
+    }
+
+    /**
+     * Same settings Spring Boot applies to its auto-configured mapper.
+     */
+    public static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * Smile counterpart of {@link #objectMapper()}, as the internal hop between gateway and server uses it.
+     */
+    public static ObjectMapper smileMapper() {
+        return SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * Returns an implementation of a service interface answering every call with the given result. Keeps the
+     * benchmarks independent of database access and of the exact set of methods in the interface.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getReturnType().isInstance(result) ? result : null);
+    }
+}
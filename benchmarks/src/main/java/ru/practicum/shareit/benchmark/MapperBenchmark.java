@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.comment.CommentMapper;
+import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
+import ru.practicum.shareit.item.dto.item.ItemMapper;
+import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.RequestMapper;
+import ru.practicum.shareit.request.dto.RequestResponseDto;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "500"})
+    public int comments;
+
+    @Param({"20", "100"})
+    public int bookings;
+
+    private Item item;
+    private Booking lastBooking;
+    private Booking nextBooking;
+    private List<Booking> bookingPage;
+    private List<Request> requests;
+    private BookingMapper bookingMapper;
+
+    @Setup
+    public void setUp() {
+        User owner = Fixtures.user(1);
+        User booker = Fixtures.user(2);
+
+        item = Fixtures.item(1, owner, comments);
+        bookingPage = Fixtures.bookings(item.getId(), booker.getId(), bookings);
+        lastBooking = bookingPage.get(0);
+        nextBooking = bookingPage.get(1);
+
+        requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(Fixtures.request(i, owner, 5));
+        }
+
+        bookingMapper = new BookingMapper(Fixtures.stub(ItemService.class, item),
+                Fixtures.stub(UserService.class, booker));
+    }
+
+    @Benchmark
+    public ItemWithBookingsDto itemWithBookings() {
+        return ItemMapper.toItemWithBookingsDto(item, lastBooking, nextBooking);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> comments() {
+        List<CommentResponseDto> result = new ArrayList<>(item.getComments().size());
+        for (Comment comment : item.getComments()) {
+            result.add(CommentMapper.toCommentResponseDto(comment));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> bookingPage() {
+        List<BookingResponseDto> result = new ArrayList<>(bookingPage.size());
+        for (Booking booking : bookingPage) {
+            result.add(bookingMapper.toBookingResponseDto(booking));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<RequestResponseDto> requestPage() {
+        List<RequestResponseDto> result = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            result.add(RequestMapper.toRequestResponseDto(request));
+        }
+        return result;
+    }
+}
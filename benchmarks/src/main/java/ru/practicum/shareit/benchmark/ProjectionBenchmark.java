@@ -0,0 +1,217 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.repo.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.item.ItemMapper;
+import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
+import ru.practicum.shareit.item.repo.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.RequestMapper;
+import ru.practicum.shareit.request.dto.RequestResponseDto;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.request.repo.RequestRepository;
+import ru.practicum.shareit.request.service.RequestService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static ru.practicum.shareit.common.Variables.SORT_BY_START_DESC;
+
+/**
+ * List endpoints read through managed entities and mappers against read-only DTO projections. Starts the server
+ * context on an in-memory H2 database with one owner of {@code items} items, {@code comments} comments per item,
+ * twenty bookings per item and a hundred answered requests of other users. Each pair of benchmarks returns the same
+ * page; the GC profiler of {@link BenchmarkRunner} reports the allocated bytes per operation next to the latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+    private static final long OWNER_ID = 1;
+    private static final int BOOKERS = 50;
+    private static final int BOOKINGS_PER_ITEM = 20;
+    private static final int REQUESTS = 100;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"50"})
+    public int items;
+
+    @Param({"0", "20"})
+    public int comments;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private BookingRepository bookingRepository;
+    private ItemRepository itemRepository;
+    private RequestRepository requestRepository;
+    private BookingMapper bookingMapper;
+    private UserService userService;
+    private BookingService bookingService;
+    private ItemService itemService;
+    private RequestService requestService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(ShareItServer.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:projection-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--shareit.datasource.warm-up.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.orm.jpa=WARN",
+                "--logging.level.org.springframework.transaction=WARN",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        bookingRepository = context.getBean(BookingRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        requestRepository = context.getBean(RequestRepository.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        userService = context.getBean(UserService.class);
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+        requestService = context.getBean(RequestService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> ownerBookingsEntities() {
+        return readOnlyTransaction.execute(status -> {
+            User owner = userService.findUserById(OWNER_ID);
+            return bookingRepository.findByOwnerId(owner, PageRequest.of(0, pageSize, SORT_BY_START_DESC)).stream()
+                    .map(bookingMapper::toBookingResponseDto)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> ownerBookingsProjection() {
+        return bookingService.findByOwnerIdAndState(OWNER_ID, "ALL", 0, pageSize);
+    }
+
+    @Benchmark
+    public List<ItemWithBookingsDto> ownerItemsEntities() {
+        return readOnlyTransaction.execute(status -> itemRepository.findByOwnerId(OWNER_ID).stream()
+                .map(item -> ItemMapper.toItemWithBookingsDto(item,
+                        bookingService.findLastBookingByItemId(item.getId()),
+                        bookingService.findNextBookingByItemId(item.getId())))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<ItemWithBookingsDto> ownerItemsProjection() {
+        return itemService.findByOwnerId(OWNER_ID);
+    }
+
+    @Benchmark
+    public List<RequestResponseDto> requestsEntities() {
+        return readOnlyTransaction.execute(status -> {
+            List<Request> requests = requestRepository.findAllByUserIdNot(OWNER_ID, PageRequest.of(0, pageSize));
+            requests.forEach(request -> request.setItems(requestRepository.findItemsByRequestId(request.getId())));
+            return requests.stream()
+                    .map(RequestMapper::toRequestResponseDto)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Benchmark
+    public List<RequestResponseDto> requestsProjection() {
+        return requestService.findAllWithPagination(OWNER_ID, 0, pageSize);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = OWNER_ID; id <= OWNER_ID + BOOKERS; id++) {
+            String email = "user" + id + "@shareit.ru";
+            users.add(new Object[]{id, "User " + id, email, email});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, email_lower) VALUES (?, ?, ?, LOWER(?))", users);
+
+        List<Object[]> itemRows = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+        for (long itemId = 1; itemId <= items; itemId++) {
+            itemRows.add(new Object[]{itemId, "Cordless drill " + itemId,
+                    "18V cordless drill with two batteries, a charger and a case full of bits", true, OWNER_ID});
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                LocalDateTime start = now.plusDays(i - BOOKINGS_PER_ITEM / 2);
+                bookings.add(new Object[]{itemId, bookerId(i), Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusHours(12)), "APPROVED"});
+            }
+            for (int i = 0; i < comments; i++) {
+                commentRows.add(new Object[]{itemId, bookerId(i), "Worked great for hanging shelves. Comment #" + i,
+                        Timestamp.valueOf(now.minusHours(i))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO item (id, name, description, available, owner_id) " +
+                "VALUES (?, ?, ?, ?, ?)", itemRows);
+        jdbcTemplate.batchUpdate("INSERT INTO booking (item_id, booker_id, start_date, end_date, status) " +
+                "VALUES (?, ?, ?, ?, ?)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO comment (item_id, user_id, text, created) VALUES (?, ?, ?, ?)",
+                commentRows);
+
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> requestItems = new ArrayList<>();
+        for (long requestId = 1; requestId <= REQUESTS; requestId++) {
+            requests.add(new Object[]{requestId, bookerId((int) requestId), "Need a drill for the weekend",
+                    Timestamp.valueOf(now.minusMinutes(requestId))});
+            requestItems.add(new Object[]{requestId, (requestId - 1) % items + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO request (id, user_id, description, created) VALUES (?, ?, ?, ?)",
+                requests);
+        jdbcTemplate.batchUpdate("INSERT INTO request_item (request_id, item_id) VALUES (?, ?)", requestItems);
+    }
+
+    private static long bookerId(int i) {
+        return OWNER_ID + 1 + i % BOOKERS;
+    }
+}
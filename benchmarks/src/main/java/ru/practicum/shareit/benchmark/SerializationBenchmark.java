@@ -0,0 +1,88 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.item.ItemMapper;
+import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.RequestMapper;
+import ru.practicum.shareit.request.dto.RequestResponseDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"10", "500"})
+    public int comments;
+
+    @Param({"20", "100"})
+    public int bookings;
+
+    private ObjectWriter writer;
+    private ItemWithBookingsDto item;
+    private List<BookingResponseDto> bookingPage;
+    private List<RequestResponseDto> requestPage;
+
+    @Setup
+    public void setUp() {
+        User owner = Fixtures.user(1);
+        User booker = Fixtures.user(2);
+        Item storedItem = Fixtures.item(1, owner, comments);
+
+        List<Booking> storedBookings = Fixtures.bookings(storedItem.getId(), booker.getId(), bookings);
+        item = ItemMapper.toItemWithBookingsDto(storedItem, storedBookings.get(0), storedBookings.get(1));
+
+        BookingMapper bookingMapper = new BookingMapper(Fixtures.stub(ItemService.class, storedItem),
+                Fixtures.stub(UserService.class, booker));
+        bookingPage = new ArrayList<>(bookings);
+        for (Booking booking : storedBookings) {
+            bookingPage.add(bookingMapper.toBookingResponseDto(booking));
+        }
+
+        requestPage = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requestPage.add(RequestMapper.toRequestResponseDto(Fixtures.request(i, owner, 5)));
+        }
+
+        writer = Fixtures.objectMapper().writer();
+    }
+
+    @Benchmark
+    public byte[] itemWithComments() throws JsonProcessingException {
+        return writer.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(bookingPage);
+    }
+
+    @Benchmark
+    public byte[] requestPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(requestPage);
+    }
+}
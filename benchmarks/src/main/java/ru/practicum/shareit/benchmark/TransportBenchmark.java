@@ -0,0 +1,139 @@
+package ru.practicum.shareit.benchmark;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gateway to server hop over HTTP/1.1 keep-alive connections against h2c. Every operation sends
+ * {@code concurrency} requests for a page of bookings at once to an embedded Tomcat that answers them after
+ * {@code serverMicros} of simulated work, and waits for all responses. HTTP/1.1 needs a connection per
+ * concurrent request, h2c multiplexes them over one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+    @Param({"HTTP_1_1", "HTTP_2"})
+    public HttpClient.Version version;
+
+    @Param({"1", "64"})
+    public int concurrency;
+
+    @Param({"0", "2000"})
+    public int serverMicros;
+
+    private Tomcat tomcat;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        byte[] bookingPage = Fixtures.objectMapper().writeValueAsBytes(bookingPage());
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        Http2Protocol http2Protocol = new Http2Protocol();
+        http2Protocol.setMaxConcurrentStreams(200);
+        http2Protocol.setMaxConcurrentStreamExecution(200);
+        connector.addUpgradeProtocol(http2Protocol);
+        tomcat.getService().addConnector(connector);
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "bookings", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                if (serverMicros > 0) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(serverMicros));
+                }
+                resp.setContentType("application/json");
+                resp.setContentLength(bookingPage.length);
+                resp.getOutputStream().write(bookingPage);
+            }
+        });
+        context.addServletMappingDecoded("/bookings/owner", "bookings");
+        tomcat.start();
+
+        client = HttpClient.newBuilder().version(version).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + connector.getLocalPort()
+                + "/bookings/owner")).GET().build();
+        // the first request upgrades the connection, so the measured ones all go over HTTP/2
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    public long ownerBookings() {
+        List<CompletableFuture<HttpResponse<byte[]>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()));
+        }
+        long bytes = 0;
+        for (CompletableFuture<HttpResponse<byte[]>> response : responses) {
+            bytes += response.join().body().length;
+        }
+        return bytes;
+    }
+
+    private static List<BookingResponseDto> bookingPage() {
+        User owner = Fixtures.user(1);
+        User booker = Fixtures.user(2);
+        Item item = Fixtures.item(1, owner, 0);
+        BookingMapper bookingMapper = new BookingMapper(Fixtures.stub(ItemService.class, item),
+                Fixtures.stub(UserService.class, booker));
+
+        List<BookingResponseDto> page = new ArrayList<>();
+        for (Booking booking : Fixtures.bookings(item.getId(), booker.getId(), 20)) {
+            page.add(bookingMapper.toBookingResponseDto(booking));
+        }
+        return page;
+    }
+}
@@ -1,22 +1,91 @@
 package ru.practicum.shareit.common;
 
+import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.shareit.common.cache.ResponseCache;
+import ru.practicum.shareit.common.coalescing.RequestCoalescer;
+import ru.practicum.shareit.common.codec.InternalCodec;
+import ru.practicum.shareit.common.limiter.AdaptiveConcurrencyLimiter;
+import ru.practicum.shareit.common.limiter.ConcurrencyLimiters;
+import ru.practicum.shareit.common.resilience.UpstreamGuard;
+import ru.practicum.shareit.common.resilience.UpstreamGuards;
 
 public class BaseClient {
+    /**
+     * Returns upstream error responses instead of throwing, so their status, headers and body reach the caller
+     * as they are and only I/O failures surface as exceptions.
+     */
+    private static final ResponseErrorHandler PASS_THROUGH_ERROR_HANDLER = new DefaultResponseErrorHandler() {
+        @Override
+        public boolean hasError(ClientHttpResponse response) {
+            return false;
+        }
+    };
+
+    private static final List<String> FRAMING_HEADERS = List.of(HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONTENT_ENCODING, HttpHeaders.TRANSFER_ENCODING);
+
+    /**
+     * Sparse fieldset of GET requests, e.g. {@code fields=id,item.name}. Passed through to the server as it is,
+     * which returns only these properties and skips loading the rest.
+     */
+    private static final String FIELDS_PARAMETER = "fields";
+
     protected final RestTemplate rest;
+    private ResponseCache responseCache;
+    private RequestCoalescer requestCoalescer;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private UpstreamGuard upstreamGuard;
+    private MediaType internalMediaType = MediaType.APPLICATION_JSON;
 
     public BaseClient(RestTemplate rest) {
         this.rest = rest;
+        rest.setErrorHandler(PASS_THROUGH_ERROR_HANDLER);
+    }
+
+    @Autowired(required = false)
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Autowired(required = false)
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    @Autowired(required = false)
+    public void setConcurrencyLimiters(ConcurrencyLimiters concurrencyLimiters) {
+        this.concurrencyLimiter = concurrencyLimiters.get(getClass().getSimpleName());
+    }
+
+    @Autowired(required = false)
+    public void setInternalCodec(InternalCodec internalCodec) {
+        this.internalMediaType = internalCodec.getMediaType();
+    }
+
+    @Autowired(required = false)
+    public void setUpstreamGuards(UpstreamGuards upstreamGuards) {
+        this.upstreamGuard = upstreamGuards.get(getClass().getSimpleName());
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -32,7 +101,16 @@ public class BaseClient {
     }
 
     protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        String fields = getClientParameter(FIELDS_PARAMETER);
+        if (fields == null) {
+            return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        }
+
+        Map<String, Object> parametersWithFields = parameters == null ? new HashMap<>() : new HashMap<>(parameters);
+        parametersWithFields.put(FIELDS_PARAMETER, fields);
+        String pathWithFields = path + (path.contains("?") ? "&" : "?") + FIELDS_PARAMETER + "={" + FIELDS_PARAMETER
+                + "}";
+        return makeAndSendRequest(HttpMethod.GET, pathWithFields, userId, parametersWithFields, null);
     }
 
     protected <T> ResponseEntity<Object> post(String path, T body) {
@@ -69,44 +147,137 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    /**
+     * Runs a call made directly on {@link #rest} through the bulkhead and circuit breaker of this client, like the
+     * requests of the helpers above.
+     */
+    protected ResponseEntity<Object> guarded(Supplier<ResponseEntity<Object>> call) {
+        return upstreamGuard == null ? call.get() : upstreamGuard.execute(call);
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId,
                                                           @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        HttpHeaders headers = defaultHeaders(userId);
+        if (method == HttpMethod.GET) {
+            addConditionalHeaders(headers);
+        }
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<Object> shareitServerResponse;
-        try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+        Supplier<ResponseEntity<Object>> call = concurrencyLimiter == null
+                ? () -> exchange(method, path, requestEntity, parameters)
+                : () -> concurrencyLimiter.execute(() -> exchange(method, path, requestEntity, parameters));
+        Supplier<ResponseEntity<Object>> upstream = upstreamGuard == null ? call : () -> guarded(call);
+
+        if (responseCache == null && requestCoalescer == null) {
+            return upstream.get();
+        }
+
+        URI uri = parameters != null ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path);
+        if (method != HttpMethod.GET) {
+            try {
+                return upstream.get();
+            } finally {
+                if (responseCache != null) {
+                    responseCache.invalidate(uri);
+                }
             }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+        }
+
+        String ifNoneMatch = headers.getFirst(HttpHeaders.IF_NONE_MATCH);
+        Supplier<ResponseEntity<Object>> load = requestCoalescer == null ? upstream
+                : () -> requestCoalescer.execute(RequestCoalescer.getKey(uri, userId, ifNoneMatch), upstream);
+
+        return responseCache == null ? load.get() : responseCache.get(uri, userId, ifNoneMatch, load);
+    }
+
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                @Nullable Map<String, Object> parameters) {
+        ResponseEntity<Object> shareitServerResponse;
+        if (parameters != null) {
+            shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+        } else {
+            shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.setContentType(internalMediaType);
+        headers.setAccept(internalMediaType.equals(MediaType.APPLICATION_JSON) ? List.of(MediaType.APPLICATION_JSON)
+                : List.of(internalMediaType, MediaType.APPLICATION_JSON));
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
+    /**
+     * Passes the client's If-None-Match through, so the server can answer 304 Not Modified.
+     */
+    private static void addConditionalHeaders(HttpHeaders headers) {
+        HttpServletRequest request = getClientRequest();
+        if (request != null) {
+            String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+            }
+        }
+    }
+
+    @Nullable
+    private static String getClientParameter(String name) {
+        HttpServletRequest request = getClientRequest();
+        return request == null ? null : request.getParameter(name);
+    }
+
+    @Nullable
+    private static HttpServletRequest getClientRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes ? ((ServletRequestAttributes) attributes).getRequest()
+                : null;
+    }
+
+    private ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
         if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+            boolean internalBody = isInternalMediaType(response.getHeaders().getContentType());
+            if (!internalBody && FRAMING_HEADERS.stream().noneMatch(response.getHeaders()::containsKey)) {
+                return response;
+            }
+            return withoutBodyHeaders(response, internalBody);
         }
 
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
 
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && response.getHeaders().getETag() != null) {
+            responseBuilder.eTag(response.getHeaders().getETag());
+        }
+
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
         }
 
         return responseBuilder.build();
     }
+
+    private boolean isInternalMediaType(@Nullable MediaType contentType) {
+        return contentType != null && !internalMediaType.equals(MediaType.APPLICATION_JSON)
+                && internalMediaType.includes(contentType);
+    }
+
+    /**
+     * Drops the headers describing the server's encoding of the body. The gateway writes the body again, in the
+     * format and compression the client asked for.
+     */
+    private static ResponseEntity<Object> withoutBodyHeaders(ResponseEntity<Object> response,
+                                                             boolean withContentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        FRAMING_HEADERS.forEach(headers::remove);
+        if (withContentType) {
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+        }
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
 }
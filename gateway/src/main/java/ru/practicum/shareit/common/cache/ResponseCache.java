@@ -0,0 +1,115 @@
+package ru.practicum.shareit.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches successful upstream GET responses per route. Only mutations proxied by this gateway instance
+ * invalidate entries, so the route TTL bounds how stale a response can get when several gateways are running.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+@ConditionalOnProperty(prefix = "shareit.gateway.cache", name = "enabled", havingValue = "true")
+public class ResponseCache {
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<CachedRoute> routes;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new CachedRoute(route, meterRegistry))
+                .collect(Collectors.toList());
+    }
+
+    public ResponseEntity<Object> get(URI uri, @Nullable Long userId, @Nullable String ifNoneMatch,
+                                      Supplier<ResponseEntity<Object>> loader) {
+        CachedRoute route = findRoute(uri.getPath());
+        if (route == null) {
+            return loader.get();
+        }
+
+        String key = route.getKey(uri, userId);
+        ResponseEntity<Object> cached = route.cache.getIfPresent(key);
+        if (cached != null) {
+            String eTag = cached.getHeaders().getETag();
+            if (eTag != null && eTag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return cached;
+        }
+
+        long generation = route.generation.get();
+        ResponseEntity<Object> response = loader.get();
+        if (response.getStatusCode() == HttpStatus.OK) {
+            route.cache.put(key, response);
+            // a mutation completed while loading, the response may already be stale
+            if (route.generation.get() != generation) {
+                route.cache.invalidate(key);
+            }
+        }
+        return response;
+    }
+
+    public void invalidate(URI uri) {
+        String path = uri.getPath();
+        for (CachedRoute route : routes) {
+            if (route.isInvalidatedBy(path)) {
+                route.generation.incrementAndGet();
+                route.cache.invalidateAll();
+                log.debug("Invalidated route {} after a change of {}", route.properties.getName(), path);
+            }
+        }
+    }
+
+    private CachedRoute findRoute(String path) {
+        for (CachedRoute route : routes) {
+            if (pathMatcher.match(route.properties.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static class CachedRoute {
+        private final ResponseCacheProperties.Route properties;
+        private final Cache<String, ResponseEntity<Object>> cache;
+        private final AtomicLong generation = new AtomicLong();
+
+        private CachedRoute(ResponseCacheProperties.Route properties, MeterRegistry meterRegistry) {
+            this.properties = properties;
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxEntries())
+                    .expireAfterWrite(properties.getTtl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response", Tags.of("route",
+                    properties.getName()));
+        }
+
+        private String getKey(URI uri, Long userId) {
+            String key = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+            return properties.isPerUser() ? key + "|" + userId : key;
+        }
+
+        private boolean isInvalidatedBy(String path) {
+            return properties.getInvalidatedBy().stream().anyMatch(path::startsWith);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.gateway.cache")
+public class ResponseCacheProperties {
+    private boolean enabled = false;
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+
+        /**
+         * Ant-style pattern of the upstream path, e.g. {@code /items/{itemId:\d+}}. The first matching route wins.
+         */
+        private String pattern;
+
+        private Duration ttl = Duration.ofSeconds(30);
+        private long maxEntries = 10_000;
+
+        /**
+         * Whether the response depends on the X-Sharer-User-Id header and must be cached per user.
+         */
+        private boolean perUser = true;
+
+        /**
+         * Path prefixes of POST, PATCH and DELETE requests that drop all entries of the route.
+         */
+        private List<String> invalidatedBy = new ArrayList<>();
+    }
+}
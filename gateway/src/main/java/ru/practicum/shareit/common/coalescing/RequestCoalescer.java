@@ -0,0 +1,78 @@
+package ru.practicum.shareit.common.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical GET requests share one upstream call. The first request executes the call on its own
+ * thread, the others wait for its response. Keys include the user id and If-None-Match, so only requests
+ * the server would answer identically are merged and user-specific responses are never handed to another user.
+ */
+@Component
+@ConditionalOnProperty(prefix = "shareit.gateway.coalescing", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class RequestCoalescer {
+    private final ConcurrentMap<String, CompletableFuture<ResponseEntity<Object>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.coalesced = Counter.builder("gateway.requests.coalesced")
+                .description("GET requests that were answered by another request's upstream call")
+                .register(meterRegistry);
+        Gauge.builder("gateway.requests.in.flight", inFlight, ConcurrentMap::size)
+                .description("Distinct GET requests currently executing upstream")
+                .register(meterRegistry);
+    }
+
+    public static String getKey(URI uri, @Nullable Long userId, @Nullable String ifNoneMatch) {
+        return uri + "|" + userId + "|" + ifNoneMatch;
+    }
+
+    public ResponseEntity<Object> execute(String key, Supplier<ResponseEntity<Object>> upstream) {
+        CompletableFuture<ResponseEntity<Object>> call = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> running = inFlight.putIfAbsent(key, call);
+
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        try {
+            ResponseEntity<Object> response = upstream.get();
+            call.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new CompletionException(cause);
+    }
+}
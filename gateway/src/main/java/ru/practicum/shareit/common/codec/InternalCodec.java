@@ -0,0 +1,20 @@
+package ru.practicum.shareit.common.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media type of the bodies exchanged with the server. External clients keep talking JSON to the gateway.
+ */
+public class InternalCodec {
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final MediaType mediaType;
+
+    public InternalCodec(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.common.codec;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.gateway.codec.smile", name = "enabled", havingValue = "true")
+public class InternalCodecConfig {
+    /**
+     * Built from the Boot-configured builder, so the values read from Smile are the same as read from JSON
+     * and are written back to the clients unchanged. Replaces the default Smile converter at its place
+     * after the JSON one, which keeps JSON the answer to {@code Accept: *}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public InternalCodec internalCodec() {
+        return new InternalCodec(InternalCodec.SMILE);
+    }
+}
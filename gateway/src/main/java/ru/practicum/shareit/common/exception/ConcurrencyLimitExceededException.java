@@ -0,0 +1,9 @@
+package ru.practicum.shareit.common.exception;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitExceededException extends UpstreamUnavailableException {
+    public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.common.http;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Request factory on top of the JDK {@link HttpClient}. With {@link HttpClient.Version#HTTP_2} plain http URIs
+ * are upgraded to h2c on the first request and all later requests are multiplexed over that connection.
+ */
+public class JdkClientHttpRequestFactory implements ClientHttpRequestFactory {
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    public JdkClientHttpRequestFactory(HttpClient.Version version, Duration connectTimeout, Duration readTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new JdkClientHttpRequest(httpClient, uri, httpMethod, readTimeout);
+    }
+}
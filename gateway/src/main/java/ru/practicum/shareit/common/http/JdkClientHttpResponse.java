@@ -0,0 +1,63 @@
+package ru.practicum.shareit.common.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+class JdkClientHttpResponse extends AbstractClientHttpResponse {
+    private final HttpResponse<InputStream> response;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final InputStream body;
+
+    JdkClientHttpResponse(HttpResponse<InputStream> response) throws IOException {
+        this.response = response;
+        response.headers().map().forEach(headers::addAll);
+        if ("gzip".equalsIgnoreCase(headers.getFirst(HttpHeaders.CONTENT_ENCODING)) && hasBody(response)) {
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            this.body = new GZIPInputStream(response.body());
+        } else {
+            this.body = response.body();
+        }
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return response.statusCode();
+    }
+
+    @Override
+    public String getStatusText() {
+        HttpStatus status = HttpStatus.resolve(response.statusCode());
+        return status == null ? "" : status.getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return body;
+    }
+
+    @Override
+    public void close() {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // the stream is drained or the connection is gone, nothing to release
+        }
+    }
+
+    private static boolean hasBody(HttpResponse<InputStream> response) {
+        return response.statusCode() != HttpStatus.NO_CONTENT.value()
+                && response.statusCode() != HttpStatus.NOT_MODIFIED.value();
+    }
+}
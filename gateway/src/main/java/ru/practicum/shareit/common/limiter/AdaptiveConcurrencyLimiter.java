@@ -0,0 +1,116 @@
+package ru.practicum.shareit.common.limiter;
+
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.common.exception.ConcurrencyLimitExceededException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * TCP Vegas style concurrency limit of one upstream client. The limit grows while the latency stays close to
+ * the lowest observed one and shrinks when requests start queueing on the server. Server errors and timeouts
+ * halve the limit. Requests above the limit are rejected right away instead of blocking a gateway thread.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final String name;
+    private final ConcurrencyLimiterProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private long noLoadRttNanos = Long.MAX_VALUE;
+    private int samples;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimiterProperties properties) {
+        this.name = name;
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+    }
+
+    public ResponseEntity<Object> execute(Supplier<ResponseEntity<Object>> call) {
+        int startInFlight = tryAcquire();
+        if (startInFlight < 0) {
+            rejected.increment();
+            throw new ConcurrencyLimitExceededException(String.format("%s is over its concurrency limit of %d",
+                    name, limit), properties.getRetryAfter());
+        }
+
+        long started = System.nanoTime();
+        boolean dropped = true;
+        try {
+            ResponseEntity<Object> response = call.get();
+            dropped = response.getStatusCode().is5xxServerError();
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+            if (dropped) {
+                onDropped();
+            } else {
+                onSample(System.nanoTime() - started, startInFlight);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of requests in flight including this one, or -1 if the limit is reached.
+     */
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private synchronized void onDropped() {
+        limit = Math.max(properties.getMinLimit(), limit / 2);
+    }
+
+    private synchronized void onSample(long rttNanos, int sampleInFlight) {
+        if (++samples >= properties.getBaselineResetSamples()) {
+            samples = 0;
+            noLoadRttNanos = rttNanos;
+        } else if (rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+
+        // a lightly used client says nothing about how much more it could take
+        if (sampleInFlight * 2 < limit) {
+            return;
+        }
+
+        int queued = (int) Math.ceil(limit * (1 - (double) noLoadRttNanos / rttNanos));
+        int threshold = Math.max(1, (int) Math.log10(limit));
+        int alpha = 3 * threshold;
+        int beta = 6 * threshold;
+
+        int newLimit;
+        if (queued <= threshold) {
+            newLimit = limit + beta;
+        } else if (queued < alpha) {
+            newLimit = limit + threshold;
+        } else if (queued > beta) {
+            newLimit = limit - threshold;
+        } else {
+            return;
+        }
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.common.limiter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.gateway.limiter")
+public class ConcurrencyLimiterProperties {
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+
+    /**
+     * Number of samples after which the no-load latency is measured again, so the limiter follows
+     * a server that got permanently slower or faster.
+     */
+    private int baselineResetSamples = 1000;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.common.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per upstream client, so a slow endpoint group only sheds its own load.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ConcurrencyLimiterProperties.class)
+@ConditionalOnProperty(prefix = "shareit.gateway.limiter", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConcurrencyLimiters {
+    private final ConcurrencyLimiterProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter get(String client) {
+        return limiters.computeIfAbsent(client, this::create);
+    }
+
+    private AdaptiveConcurrencyLimiter create(String client) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(client, properties);
+
+        Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("client", client)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .tag("client", client)
+                .description("Requests shed with 503 because the client was over its concurrency limit")
+                .register(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.common.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.client.DefaultRestTemplateExchangeTagsProvider;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+
+/**
+ * Adds an {@code upstream} tag to {@code http.client.requests}. Every {@code BaseClient} subclass calls its own
+ * API prefix on the server, so the first path segment identifies the client. The {@code uri} tag alone is
+ * relative to that prefix and would mix up e.g. {@code /{bookingId}} and {@code /{itemId}}.
+ */
+@Component
+public class UpstreamClientTagsProvider extends DefaultRestTemplateExchangeTagsProvider {
+    @Override
+    public Iterable<Tag> getTags(String urlTemplate, HttpRequest request, ClientHttpResponse response) {
+        return Tags.of(super.getTags(urlTemplate, request, response))
+                .and("upstream", getUpstream(request.getURI()));
+    }
+
+    public static String getUpstream(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.length() <= 1) {
+            return "none";
+        }
+
+        int end = path.indexOf('/', 1);
+        return end == -1 ? path.substring(1) : path.substring(1, end);
+    }
+}
@@ -0,0 +1,119 @@
+package ru.practicum.shareit.common.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.practicum.shareit.common.exception.RateLimitExceededException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static ru.practicum.shareit.common.Variables.USER_HEADER;
+
+/**
+ * Limits the request rate of every user per route before the request reaches a controller. Users are told
+ * apart by the X-Sharer-User-Id header. Requests without a valid one, like an anonymous item search, are limited
+ * per client address instead.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "shareit.gateway.rate-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class RateLimitInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<LimitedRoute> routes;
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new LimitedRoute(route, properties, meterRegistry))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        LimitedRoute route = findRoute(request.getMethod(), request.getServletPath());
+        if (route == null) {
+            return true;
+        }
+        Long userId = parseUserId(request.getHeader(USER_HEADER));
+        long key = userId != null ? userId : getAddressKey(request.getRemoteAddr());
+
+        long waitNanos = route.buckets.tryAcquire(key);
+        if (waitNanos > 0) {
+            route.rejected.increment();
+            String client = userId != null ? "User " + userId : "Client " + request.getRemoteAddr();
+            throw new RateLimitExceededException(String.format("%s is over the rate limit of route %s",
+                    client, route.properties.getName()), Duration.ofNanos(waitNanos));
+        }
+        return true;
+    }
+
+    private LimitedRoute findRoute(String method, String path) {
+        for (LimitedRoute route : routes) {
+            if (route.matchesMethod(method) && pathMatcher.match(route.properties.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps the address to a negative key, so it never shares a bucket with a user id.
+     */
+    private static long getAddressKey(String remoteAddr) {
+        return -1L - (remoteAddr.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private static Long parseUserId(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class LimitedRoute {
+        private final RateLimitProperties.Route properties;
+        private final TokenBucketStore buckets;
+        private final LongAdder rejected = new LongAdder();
+
+        private LimitedRoute(RateLimitProperties.Route properties, RateLimitProperties storeProperties,
+                             MeterRegistry meterRegistry) {
+            this.properties = properties;
+            this.buckets = new TokenBucketStore(properties.getRequestsPerSecond(), properties.getBurst(),
+                    storeProperties.getStripes(), storeProperties.getMaxUsersPerRoute(), System::nanoTime);
+
+            Gauge.builder("gateway.rate.limit.buckets", buckets, TokenBucketStore::size)
+                    .tag("route", properties.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.rate.limit.rejected", rejected, LongAdder::sum)
+                    .tag("route", properties.getName())
+                    .description("Requests rejected with 429 because the user was over the route rate limit")
+                    .register(meterRegistry);
+        }
+
+        private boolean matchesMethod(String method) {
+            return properties.getMethods().isEmpty() || properties.getMethods().stream()
+                    .anyMatch(method::equalsIgnoreCase);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * Number of independent parts of every route's bucket store. Each part is swept and bounded on its own.
+     */
+    private int stripes = 16;
+
+    /**
+     * Upper bound of buckets kept per route. Full buckets are dropped first when a stripe runs out of room.
+     */
+    private int maxUsersPerRoute = 100_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+
+        /**
+         * Ant-style pattern of the request path, e.g. {@code /items/search}. The first matching route wins.
+         */
+        private String pattern;
+
+        /**
+         * HTTP methods the route applies to, all methods when empty.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        private double requestsPerSecond = 10;
+        private int burst = 20;
+    }
+}
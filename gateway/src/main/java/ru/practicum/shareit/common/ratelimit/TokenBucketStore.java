@@ -0,0 +1,139 @@
+package ru.practicum.shareit.common.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets of one route keyed by user id. A bucket is kept as the time its next token becomes due
+ * (GCRA), so taking a token is a single compare-and-set on one {@code long} and needs no lock.
+ * <p>
+ * The buckets are spread over stripes with a fixed capacity each. Every {@value #SWEEP_EVERY} operations on
+ * a stripe sweep the next {@value #SWEEP_SLICE} buckets of it and drop the idle ones, i.e. the ones that
+ * refilled completely, which loses nothing because a new bucket starts full. So a stripe shrinks back once its
+ * users go quiet, and no request pays for more than one slice. A stripe that is still full when a new user
+ * arrives sweeps one more slice and, if that frees nothing, drops a single busy bucket, giving that user a
+ * fresh burst.
+ */
+public class TokenBucketStore {
+    private static final int SWEEP_EVERY = 16;
+    private static final int SWEEP_SLICE = 32;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+    private final int stripeCapacity;
+    private final int stripeMask;
+
+    public TokenBucketStore(double requestsPerSecond, int burst, int stripes, int maxEntries,
+                            LongSupplier nanoClock) {
+        if (requestsPerSecond <= 0 || burst < 1 || stripes < 1 || maxEntries < stripes) {
+            throw new IllegalArgumentException("Invalid token bucket settings");
+        }
+        int stripeCount = Integer.highestOneBit(stripes);
+        this.intervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeCapacity = maxEntries / stripeCount;
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Takes a token of the user's bucket.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next one is available
+     */
+    public long tryAcquire(long userId) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = getBucket(userId, now);
+        while (true) {
+            long due = bucket.get();
+            long nextDue = Math.max(due, now) + intervalNanos;
+            long ahead = nextDue - now;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (bucket.compareAndSet(due, nextDue)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private AtomicLong getBucket(long userId, long now) {
+        Stripe stripe = stripes[Long.hashCode(userId * 0x9E3779B97F4A7C15L) & stripeMask];
+        if (stripe.operations.incrementAndGet() % SWEEP_EVERY == 0) {
+            stripe.sweep(now, false);
+        }
+        AtomicLong bucket = stripe.buckets.get(userId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.buckets.size() >= stripeCapacity) {
+            stripe.sweep(now, true);
+        }
+        return stripe.buckets.computeIfAbsent(userId, id -> new AtomicLong(now));
+    }
+
+    private static class Stripe {
+        private final Map<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicInteger operations = new AtomicInteger();
+        private final ReentrantLock sweepLock = new ReentrantLock();
+        /**
+         * Where the next sweep continues. Guarded by {@link #sweepLock}; the iterators of a concurrent map
+         * tolerate the changes made in between.
+         */
+        private Iterator<Map.Entry<Long, AtomicLong>> cursor;
+
+        /**
+         * Drops the idle buckets among the next {@value #SWEEP_SLICE}. Skipped while another thread sweeps.
+         *
+         * @param full whether to drop the first bucket of the slice if none of them is idle
+         */
+        private void sweep(long now, boolean full) {
+            if (!sweepLock.tryLock()) {
+                return;
+            }
+            try {
+                boolean dropped = false;
+                Map.Entry<Long, AtomicLong> first = null;
+                for (int i = 0; i < SWEEP_SLICE; i++) {
+                    if (cursor == null || !cursor.hasNext()) {
+                        cursor = buckets.entrySet().iterator();
+                        if (!cursor.hasNext()) {
+                            break;
+                        }
+                    }
+                    Map.Entry<Long, AtomicLong> entry = cursor.next();
+                    if (entry.getValue().get() <= now) {
+                        cursor.remove();
+                        dropped = true;
+                    } else if (first == null) {
+                        first = entry;
+                    }
+                }
+                if (full && !dropped && first != null) {
+                    buckets.remove(first.getKey(), first.getValue());
+                }
+            } finally {
+                sweepLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareit.common.resilience;
+
+import ru.practicum.shareit.common.exception.UpstreamUnavailableException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count-based circuit breaker. Opens when the failure rate of the last {@code slidingWindowSize} calls reaches
+ * the threshold, rejects calls while open, then lets {@code halfOpenCalls} trial calls through and closes again
+ * if they succeed often enough.
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String name;
+    private final ResilienceProperties.CircuitBreaker properties;
+    private final Clock clock;
+    private final boolean[] window;
+    private final LongAdder rejected = new LongAdder();
+
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int trialPermits;
+    private int trialCalls;
+    private int trialFailures;
+
+    public CircuitBreaker(String name, ResilienceProperties.CircuitBreaker properties, Clock clock) {
+        this.name = name;
+        this.properties = properties;
+        this.clock = clock;
+        this.window = new boolean[properties.getSlidingWindowSize()];
+    }
+
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            long openFor = clock.millis() - openedAt;
+            if (openFor < properties.getOpenDuration().toMillis()) {
+                reject(properties.getOpenDuration().minusMillis(openFor));
+            }
+            state = State.HALF_OPEN;
+            trialPermits = properties.getHalfOpenCalls();
+            trialCalls = 0;
+            trialFailures = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialPermits == 0) {
+                reject(properties.getOpenDuration());
+            }
+            trialPermits--;
+        }
+    }
+
+    public synchronized void onResult(boolean failure) {
+        if (state == State.HALF_OPEN) {
+            trialCalls++;
+            if (failure) {
+                trialFailures++;
+            }
+            if (trialCalls >= properties.getHalfOpenCalls()) {
+                if (isOverThreshold(trialFailures, trialCalls)) {
+                    open();
+                } else {
+                    close();
+                }
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (recorded == window.length) {
+            if (window[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % window.length;
+
+        if (recorded >= properties.getMinimumCalls() && isOverThreshold(failures, recorded)) {
+            open();
+        }
+    }
+
+    /**
+     * Gives back the permission of a call that never reached the upstream.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialPermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private boolean isOverThreshold(int failed, int total) {
+        return failed * 100 >= properties.getFailureRateThreshold() * total;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+    }
+
+    private void reject(Duration retryAfter) {
+        rejected.increment();
+        throw new UpstreamUnavailableException(String.format("Circuit breaker of %s is open", name), retryAfter);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.common.resilience;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import ru.practicum.shareit.common.http.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient.Version;
+
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+    /**
+     * Every client builds its own RestTemplate from this builder and so gets its own connection pool, or its own
+     * HTTP/2 connection with the h2c transport.
+     */
+    @Bean
+    public RestTemplateBuilder restTemplateBuilder(RestTemplateBuilderConfigurer configurer,
+                                                   ResilienceProperties properties) {
+        RestTemplateBuilder builder = configurer.configure(new RestTemplateBuilder());
+        if (properties.getTransport() == ResilienceProperties.Transport.H2C) {
+            return builder.requestFactory(() -> new JdkClientHttpRequestFactory(Version.HTTP_2,
+                    properties.getConnectTimeout(), properties.getReadTimeout()));
+        }
+        return builder
+                .requestFactory(() -> createRequestFactory(properties))
+                .setConnectTimeout(properties.getConnectTimeout())
+                .setReadTimeout(properties.getReadTimeout());
+    }
+
+    private static HttpComponentsClientHttpRequestFactory createRequestFactory(ResilienceProperties properties) {
+        HttpClient httpClient = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerClient())
+                .setMaxConnTotal(properties.getMaxConnectionsPerClient())
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis());
+        return requestFactory;
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.common.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.gateway.resilience")
+public class ResilienceProperties {
+    /**
+     * Transport to the server. {@code H2C} multiplexes the requests of a client over one HTTP/2 connection
+     * instead of a pool of HTTP/1.1 keep-alive connections, the pool settings below are not used then.
+     */
+    private Transport transport = Transport.HTTP_1_1;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Size of the HTTP connection pool of every client. Should not be lower than the bulkhead size,
+     * otherwise calls queue for a connection after they passed the bulkhead.
+     */
+    private int maxConnectionsPerClient = 50;
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    private Bulkhead bulkhead = new Bulkhead();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    public enum Transport {
+        HTTP_1_1,
+        H2C
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 50;
+        private Duration maxWait = Duration.ZERO;
+
+        /**
+         * Per-client overrides of {@code maxConcurrentCalls}, keyed by client class name, e.g. {@code BookingClient}.
+         */
+        private Map<String, Integer> clients = new HashMap<>();
+
+        public int getMaxConcurrentCalls(String client) {
+            return clients.getOrDefault(client, maxConcurrentCalls);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        /**
+         * Number of last calls the failure rate is calculated from.
+         */
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 5;
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.common.resilience;
+
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import ru.practicum.shareit.common.exception.UpstreamUnavailableException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead and circuit breaker of one upstream client. Server errors and I/O failures count as circuit breaker
+ * failures; client errors are regular answers and count as successes.
+ */
+@Getter
+public class UpstreamGuard {
+    private final String name;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public UpstreamGuard(String name, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public ResponseEntity<Object> execute(Supplier<ResponseEntity<Object>> call) {
+        circuitBreaker.acquirePermission();
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            throw new UpstreamUnavailableException(String.format("Bulkhead of %s is full", name), Duration.ZERO);
+        }
+
+        boolean recorded = false;
+        try {
+            ResponseEntity<Object> response = call.get();
+            circuitBreaker.onResult(response.getStatusCode().is5xxServerError());
+            recorded = true;
+            return response;
+        } catch (RestClientException e) {
+            circuitBreaker.onResult(true);
+            recorded = true;
+            throw e;
+        } finally {
+            if (!recorded) {
+                circuitBreaker.onIgnored();
+            }
+            bulkhead.release();
+        }
+    }
+}
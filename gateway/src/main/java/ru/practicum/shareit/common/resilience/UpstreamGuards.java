@@ -0,0 +1,49 @@
+package ru.practicum.shareit.common.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link UpstreamGuard} per upstream client.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamGuards {
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, UpstreamGuard> guards = new ConcurrentHashMap<>();
+
+    public UpstreamGuard get(String client) {
+        return guards.computeIfAbsent(client, this::create);
+    }
+
+    private UpstreamGuard create(String client) {
+        Bulkhead bulkhead = new Bulkhead(properties.getBulkhead().getMaxConcurrentCalls(client),
+                properties.getBulkhead().getMaxWait());
+        CircuitBreaker circuitBreaker = new CircuitBreaker(client, properties.getCircuitBreaker(),
+                Clock.systemUTC());
+
+        Gauge.builder("gateway.bulkhead.available", bulkhead, Bulkhead::getAvailable)
+                .tag("client", client)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("gateway.circuit.breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("client", client)
+                .description("0 - closed, 1 - half-open, 2 - open")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.circuit.breaker.rejected", circuitBreaker, CircuitBreaker::getRejected)
+                .tag("client", client)
+                .register(meterRegistry);
+
+        return new UpstreamGuard(client, bulkhead, circuitBreaker);
+    }
+}
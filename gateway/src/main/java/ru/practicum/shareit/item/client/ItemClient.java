@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
@@ -12,6 +11,7 @@ import ru.practicum.shareit.common.BaseClient;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -23,7 +23,6 @@ public class ItemClient extends BaseClient {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
                         .build()
         );
     }
@@ -69,6 +68,18 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}", parameters);
     }
 
+    public ResponseEntity<Object> findComments(long itemId, String cursor, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("itemId", itemId);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/{itemId}/comments?size={size}", parameters);
+        }
+
+        parameters.put("cursor", cursor);
+        return get("/{itemId}/comments?size={size}&cursor={cursor}", parameters);
+    }
+
     public ResponseEntity<Object> addComment(long userId, long itemId, CommentRequestDto commentRequestDto) {
         Map<String, Object> parameters = Map.of(
                 "itemId", itemId
@@ -18,7 +18,9 @@ import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
 
 import static ru.practicum.shareit.common.Variables.USER_HEADER;
 
@@ -69,6 +71,14 @@ public class ItemController {
         return itemClient.delete(itemId, userId);
     }
 
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<Object> findComments(
+            @PathVariable Long itemId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Positive @Max(100) @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        return itemClient.findComments(itemId, cursor, size);
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<Object> addComment(
             @RequestHeader(USER_HEADER) @NotNull Long userId,
@@ -3,14 +3,21 @@ package ru.practicum.shareit.user.client;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.common.BaseClient;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -22,7 +29,6 @@ public class UserClient extends BaseClient {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
                         .build()
         );
     }
@@ -50,8 +56,49 @@ public class UserClient extends BaseClient {
         return ResponseEntity.ok().build();
     }
 
-    public ResponseEntity<Object> findAll() {
-        return get("");
+    public ResponseEntity<Object> findAll(long afterId, int size) {
+        Map<String, Object> parameters = Map.of(
+                "afterId", afterId,
+                "size", size
+        );
+        return get("?afterId={afterId}&size={size}", parameters);
+    }
+
+    /**
+     * Copies the server's NDJSON export of all users to the given stream as it arrives, without reading it into
+     * memory first. Bypasses the response cache and the concurrency limiter, which work on complete responses, but
+     * holds a bulkhead permit for the whole stream and reports the outcome to the circuit breaker.
+     *
+     * @return 200 without a body once the export is copied, or the server's error response, which is not copied
+     */
+    public ResponseEntity<Object> export(OutputStream out) {
+        return guarded(() -> rest.execute("/export", HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                response -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        return ResponseEntity.status(response.getRawStatusCode())
+                                .headers(headers -> headers.setContentType(response.getHeaders().getContentType()))
+                                .body(StreamUtils.copyToByteArray(response.getBody()));
+                    }
+                    copy(response.getBody(), out);
+                    return ResponseEntity.ok().build();
+                }));
+    }
+
+    /**
+     * Failures to write to the client are rethrown unchecked, so neither the rest template nor the circuit breaker
+     * takes them for failures of the server.
+     */
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[StreamUtils.BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            try {
+                out.write(buffer, 0, read);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     public ResponseEntity<Object> findById(long userId) {
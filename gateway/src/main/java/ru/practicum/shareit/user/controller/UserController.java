@@ -1,6 +1,7 @@
 package ru.practicum.shareit.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -11,10 +12,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.io.IOException;
 
 @Controller
 @RequestMapping("/users")
@@ -41,8 +48,18 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> findAll() {
-        return userClient.findAll();
+    public ResponseEntity<Object> findAll(
+            @PositiveOrZero @RequestParam(name = "afterId", required = false, defaultValue = "0") long afterId,
+            @Positive @Max(1000) @RequestParam(name = "size", required = false, defaultValue = "100") int size) {
+        return userClient.findAll(afterId, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Object> export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ResponseEntity<Object> upstreamResponse = userClient.export(response.getOutputStream());
+        // A successful export is already written to the response
+        return upstreamResponse.getStatusCode().is2xxSuccessful() ? null : upstreamResponse;
     }
 
     @GetMapping("/{userId}")
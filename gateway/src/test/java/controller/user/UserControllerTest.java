@@ -188,13 +188,13 @@ public class UserControllerTest {
 
         ResponseEntity<Object> expectedDto = new ResponseEntity<>(List.of(user1, user2), HttpStatus.OK);
 
-        when(mockUserClient.findAll()).thenReturn(expectedDto);
+        when(mockUserClient.findAll(0L, 100)).thenReturn(expectedDto);
 
-        ResponseEntity<Object> result = userController.findAll();
+        ResponseEntity<Object> result = userController.findAll(0L, 100);
 
         assertEquals(result.getBody(), expectedDto.getBody());
         assertEquals(result.getStatusCode(), expectedDto.getStatusCode());
-        verify(mockUserClient, times(1)).findAll();
+        verify(mockUserClient, times(1)).findAll(0L, 100);
     }
 
     @Test
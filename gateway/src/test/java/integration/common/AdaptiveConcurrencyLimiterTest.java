@@ -0,0 +1,93 @@
+package integration.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.common.exception.ConcurrencyLimitExceededException;
+import ru.practicum.shareit.common.limiter.AdaptiveConcurrencyLimiter;
+import ru.practicum.shareit.common.limiter.ConcurrencyLimiterProperties;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+    private ConcurrencyLimiterProperties properties;
+
+    @BeforeEach
+    void preparation() {
+        properties = new ConcurrencyLimiterProperties();
+        properties.setInitialLimit(2);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(10);
+    }
+
+    @Test
+    void execute_ShouldRejectRequest_WhenLimitIsReached() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ItemClient", properties);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> limiter.execute(() -> {
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok().build();
+                }));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ConcurrencyLimitExceededException.class,
+                    () -> limiter.execute(() -> ResponseEntity.ok().build()));
+            assertEquals(1, limiter.getRejected());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void execute_ShouldHalveLimit_WhenUpstreamFails() {
+        properties.setInitialLimit(8);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ItemClient", properties);
+
+        limiter.execute(() -> ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+        assertEquals(4, limiter.getLimit());
+
+        assertThrows(IllegalStateException.class, () -> limiter.execute(() -> {
+            throw new IllegalStateException("timeout");
+        }));
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void execute_ShouldRaiseLimit_WhenLatencyStaysLowUnderLoad() {
+        properties.setInitialLimit(1);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ItemClient", properties);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.execute(() -> ResponseEntity.ok().build());
+        }
+
+        assertTrue(limiter.getLimit() > 1);
+        assertTrue(limiter.getLimit() <= 10);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
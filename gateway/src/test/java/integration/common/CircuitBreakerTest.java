@@ -0,0 +1,123 @@
+package integration.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import ru.practicum.shareit.common.exception.UpstreamUnavailableException;
+import ru.practicum.shareit.common.resilience.Bulkhead;
+import ru.practicum.shareit.common.resilience.CircuitBreaker;
+import ru.practicum.shareit.common.resilience.ResilienceProperties;
+import ru.practicum.shareit.common.resilience.UpstreamGuard;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+    private MutableClock clock;
+    private UpstreamGuard guard;
+
+    @BeforeEach
+    void preparation() {
+        ResilienceProperties.CircuitBreaker properties = new ResilienceProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofSeconds(10));
+        properties.setHalfOpenCalls(2);
+
+        clock = new MutableClock();
+        guard = new UpstreamGuard("ItemClient", new Bulkhead(1, Duration.ZERO),
+                new CircuitBreaker("ItemClient", properties, clock));
+    }
+
+    @Test
+    void execute_ShouldOpenCircuit_WhenFailureRateReachesThreshold() {
+        guard.execute(() -> ResponseEntity.ok().build());
+        guard.execute(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        guard.execute(() -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getCircuitBreaker().getState());
+
+        assertThrows(ResourceAccessException.class, () -> guard.execute(() -> {
+            throw new ResourceAccessException("Connection refused");
+        }));
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+
+        UpstreamUnavailableException e = assertThrows(UpstreamUnavailableException.class,
+                () -> guard.execute(() -> ResponseEntity.ok().build()));
+        assertEquals(Duration.ofSeconds(10), e.getRetryAfter());
+        assertEquals(1, guard.getCircuitBreaker().getRejected());
+    }
+
+    @Test
+    void execute_ShouldCloseCircuit_WhenTrialCallsSucceed() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(11));
+
+        guard.execute(() -> ResponseEntity.ok().build());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, guard.getCircuitBreaker().getState());
+        guard.execute(() -> ResponseEntity.ok().build());
+
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void execute_ShouldReopenCircuit_WhenTrialCallsFail() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(11));
+
+        guard.execute(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        guard.execute(() -> ResponseEntity.ok().build());
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+        assertThrows(UpstreamUnavailableException.class, () -> guard.execute(() -> ResponseEntity.ok().build()));
+    }
+
+    @Test
+    void execute_ShouldRejectCall_WhenBulkheadIsFull() {
+        UpstreamUnavailableException e = assertThrows(UpstreamUnavailableException.class,
+                () -> guard.execute(() -> guard.execute(() -> ResponseEntity.ok().build())));
+
+        assertEquals(Duration.ZERO, e.getRetryAfter());
+        assertEquals(1, guard.getBulkhead().getRejected());
+        assertEquals(1, guard.getBulkhead().getAvailable());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getCircuitBreaker().getState());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            guard.execute(() -> ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package integration.common;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.common.http.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static ru.practicum.shareit.common.Variables.USER_HEADER;
+
+class JdkClientHttpRequestFactoryTest {
+    private HttpServer server;
+    private RestTemplate rest;
+
+    @BeforeEach
+    void preparation() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/items", exchange -> {
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            String user = exchange.getRequestHeaders().getFirst(USER_HEADER);
+            byte[] response = ("{\"user\":" + user + ",\"body\":" + new String(request, StandardCharsets.UTF_8)
+                    + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().endsWith("/404") ? 404 : 201,
+                    response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        server.createContext("/bookings/owner", exchange -> {
+            byte[] response = "[{\"id\":1}]".repeat(1000).getBytes(StandardCharsets.UTF_8);
+            String acceptEncoding = exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_ENCODING, acceptEncoding);
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = new GZIPOutputStream(exchange.getResponseBody())) {
+                body.write(response);
+            }
+        });
+        server.start();
+
+        rest = new RestTemplate(new JdkClientHttpRequestFactory(HttpClient.Version.HTTP_1_1,
+                Duration.ofSeconds(1), Duration.ofSeconds(5)));
+        rest.setErrorHandler(new DefaultResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) {
+                return false;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void exchange_ShouldSendHeadersAndBody() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(USER_HEADER, "7");
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+
+        ResponseEntity<String> response = rest.exchange(getUrl("/items"), HttpMethod.POST,
+                new HttpEntity<>("{\"name\":\"Drill\"}", headers), String.class);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("{\"user\":7,\"body\":{\"name\":\"Drill\"}}", response.getBody());
+    }
+
+    @Test
+    void exchange_ShouldReturnErrorResponse() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(USER_HEADER, "1");
+
+        ResponseEntity<String> response = rest.exchange(getUrl("/items/404"), HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("{\"user\":1,\"body\":}", response.getBody());
+    }
+
+    @Test
+    void exchange_ShouldDecompressGzipResponse() {
+        ResponseEntity<String> response = rest.exchange(getUrl("/bookings/owner"), HttpMethod.GET,
+                new HttpEntity<>(new HttpHeaders()), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("[{\"id\":1}]".repeat(1000), response.getBody());
+    }
+
+    private String getUrl(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,106 @@
+package integration.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.common.coalescing.RequestCoalescer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestCoalescerTest {
+    private static final URI SEARCH = URI.create("http://localhost:9090/items/search?text=drill");
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+
+    @BeforeEach
+    void preparation() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldShareOneUpstreamCall_WhenRequestsAreConcurrent() throws Exception {
+        int requests = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        String key = RequestCoalescer.getKey(SEARCH, null, null);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        try {
+            List<Future<ResponseEntity<Object>>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> requestCoalescer.execute(key, () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return ResponseEntity.ok(Map.of("id", 1));
+                })));
+            }
+            while (meterRegistry.get("gateway.requests.coalesced").counter().count() < requests - 1) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            release.countDown();
+
+            ResponseEntity<Object> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ResponseEntity<Object>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, upstreamCalls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldCallUpstreamAgain_WhenPreviousCallCompleted() {
+        String key = RequestCoalescer.getKey(SEARCH, null, null);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        requestCoalescer.execute(key, () -> ResponseEntity.ok(upstreamCalls.incrementAndGet()));
+        requestCoalescer.execute(key, () -> ResponseEntity.ok(upstreamCalls.incrementAndGet()));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0.0, meterRegistry.get("gateway.requests.in.flight").gauge().value());
+    }
+
+    @Test
+    void execute_ShouldPropagateUpstreamFailure() {
+        String key = RequestCoalescer.getKey(SEARCH, null, null);
+
+        assertThrows(IllegalStateException.class, () -> requestCoalescer.execute(key, () -> {
+            throw new IllegalStateException("upstream is down");
+        }));
+        assertEquals(0.0, meterRegistry.get("gateway.requests.in.flight").gauge().value());
+    }
+
+    @Test
+    void getKey_ShouldSeparateUsersAndConditionalRequests() {
+        URI item = URI.create("http://localhost:9090/items/1");
+
+        assertNotEquals(RequestCoalescer.getKey(item, 1L, null), RequestCoalescer.getKey(item, 2L, null));
+        assertNotEquals(RequestCoalescer.getKey(item, 1L, null), RequestCoalescer.getKey(item, 1L, "\"v1\""));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package integration.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.common.cache.ResponseCache;
+import ru.practicum.shareit.common.cache.ResponseCacheProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResponseCacheTest {
+    private static final URI ITEM = URI.create("http://localhost:9090/items/1");
+    private static final URI SEARCH = URI.create("http://localhost:9090/items/search?text=drill");
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCache responseCache;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void preparation() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setRoutes(List.of(
+                route("item-search", "/items/search", false, "/items"),
+                route("item", "/items/{itemId:\\d+}", true, "/items", "/bookings")));
+
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(properties, meterRegistry);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void get_ShouldCallUpstreamOnce_WhenRequestIsRepeated() {
+        ResponseEntity<Object> first = responseCache.get(SEARCH, 1L, null, upstream());
+        ResponseEntity<Object> second = responseCache.get(SEARCH, 2L, null, upstream());
+
+        assertSame(first, second);
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "gateway.response", "route", "item-search",
+                "result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_ShouldCacheByUser_WhenRouteIsPerUser() {
+        responseCache.get(ITEM, 1L, null, upstream());
+        responseCache.get(ITEM, 2L, null, upstream());
+        responseCache.get(ITEM, 1L, null, upstream());
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void get_ShouldNotCache_WhenRouteIsUnknownOrResponseIsNotOk() {
+        URI bookings = URI.create("http://localhost:9090/bookings/1");
+        responseCache.get(bookings, 1L, null, upstream());
+        responseCache.get(bookings, 1L, null, upstream());
+
+        Supplier<ResponseEntity<Object>> notFound = () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        };
+        responseCache.get(ITEM, 1L, null, notFound);
+        responseCache.get(ITEM, 1L, null, notFound);
+
+        assertEquals(4, upstreamCalls.get());
+    }
+
+    @Test
+    void get_ShouldReturnNotModified_WhenCachedETagMatches() {
+        responseCache.get(ITEM, 1L, null, upstream());
+
+        ResponseEntity<Object> result = responseCache.get(ITEM, 1L, "\"v1\"", upstream());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertEquals("\"v1\"", result.getHeaders().getETag());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void invalidate_ShouldDropOnlyRoutesOverlappingTheChangedPath() {
+        responseCache.get(ITEM, 1L, null, upstream());
+        responseCache.get(SEARCH, 1L, null, upstream());
+
+        responseCache.invalidate(URI.create("http://localhost:9090/bookings/5"));
+        responseCache.get(ITEM, 1L, null, upstream());
+        responseCache.get(SEARCH, 1L, null, upstream());
+        assertEquals(3, upstreamCalls.get());
+
+        responseCache.invalidate(URI.create("http://localhost:9090/items/1"));
+        responseCache.get(ITEM, 1L, null, upstream());
+        responseCache.get(SEARCH, 1L, null, upstream());
+        assertEquals(5, upstreamCalls.get());
+    }
+
+    private Supplier<ResponseEntity<Object>> upstream() {
+        return () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok().eTag("\"v1\"").body(Map.of("id", 1));
+        };
+    }
+
+    private static ResponseCacheProperties.Route route(String name, String pattern, boolean perUser,
+                                                       String... invalidatedBy) {
+        ResponseCacheProperties.Route route = new ResponseCacheProperties.Route();
+        route.setName(name);
+        route.setPattern(pattern);
+        route.setTtl(Duration.ofMinutes(1));
+        route.setPerUser(perUser);
+        route.setInvalidatedBy(List.of(invalidatedBy));
+        return route;
+    }
+}
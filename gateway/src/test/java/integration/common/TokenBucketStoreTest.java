@@ -0,0 +1,86 @@
+package integration.common;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.common.ratelimit.TokenBucketStore;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketStoreTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(SECOND);
+
+    @Test
+    void tryAcquire_ShouldAllowBurst_ThenReject() {
+        TokenBucketStore store = new TokenBucketStore(2, 3, 4, 100, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryAcquire(1L));
+        }
+        long waitNanos = store.tryAcquire(1L);
+
+        assertEquals(SECOND / 2, waitNanos);
+        assertEquals(0, store.tryAcquire(2L));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillTokens_OverTime() {
+        TokenBucketStore store = new TokenBucketStore(2, 3, 4, 100, now::get);
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire(1L);
+        }
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(0, store.tryAcquire(1L));
+        assertTrue(store.tryAcquire(1L) > 0);
+
+        now.addAndGet(10 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryAcquire(1L));
+        }
+        assertTrue(store.tryAcquire(1L) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldEvictIdleBuckets_WhenStoreIsFull() {
+        TokenBucketStore store = new TokenBucketStore(1, 1, 1, 10, now::get);
+        for (long userId = 0; userId < 10; userId++) {
+            store.tryAcquire(userId);
+        }
+        assertEquals(10, store.size());
+
+        now.addAndGet(2 * SECOND);
+        store.tryAcquire(100L);
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldSweepIdleBuckets_BeforeStoreIsFull() {
+        TokenBucketStore store = new TokenBucketStore(1, 1, 1, 1000, now::get);
+        for (long userId = 0; userId < 10; userId++) {
+            store.tryAcquire(userId);
+        }
+
+        now.addAndGet(2 * SECOND);
+        for (int i = 0; i < 16; i++) {
+            store.tryAcquire(100L);
+        }
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldStayBounded_WhenAllBucketsAreBusy() {
+        TokenBucketStore store = new TokenBucketStore(1, 1, 2, 20, now::get);
+
+        for (long userId = 0; userId < 1000; userId++) {
+            store.tryAcquire(userId);
+        }
+
+        assertTrue(store.size() <= 20);
+    }
+}
@@ -0,0 +1,24 @@
+package integration.common;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.common.metrics.UpstreamClientTagsProvider;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UpstreamClientTagsProviderTest {
+    @Test
+    void getUpstream_ShouldReturnFirstPathSegment() {
+        assertEquals("bookings", UpstreamClientTagsProvider.getUpstream(
+                URI.create("http://localhost:9090/bookings/owner?state=ALL&from=0&size=20")));
+        assertEquals("items", UpstreamClientTagsProvider.getUpstream(URI.create("http://localhost:9090/items/5")));
+        assertEquals("users", UpstreamClientTagsProvider.getUpstream(URI.create("http://localhost:9090/users")));
+    }
+
+    @Test
+    void getUpstream_ShouldReturnNone_WhenPathIsEmpty() {
+        assertEquals("none", UpstreamClientTagsProvider.getUpstream(URI.create("http://localhost:9090")));
+        assertEquals("none", UpstreamClientTagsProvider.getUpstream(URI.create("http://localhost:9090/")));
+    }
+}
@@ -6,9 +6,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.practicum.shareit.common.codec.InternalCodec;
 import ru.practicum.shareit.item.client.ItemClient;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
@@ -18,7 +23,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -146,6 +153,82 @@ public class ItemClientTest {
                 Object.class, parameters);
     }
 
+    @Test
+    public void testFindItemByIdNotModified() {
+        long userId = 1;
+        long itemId = 1;
+        String eTag = "\"5d41402abc4b2a76b9719d911017c592\"";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        HttpEntity<Object> requestEntity = getHttpEntity(null, userId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(requestEntity.getHeaders());
+        headers.set(HttpHeaders.IF_NONE_MATCH, eTag);
+        Map<String, Object> parameters = Map.of("itemId", itemId);
+
+        when(mockRestTemplate.exchange("/{itemId}", HttpMethod.GET, new HttpEntity<>(null, headers), Object.class,
+                parameters)).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+
+        try {
+            ResponseEntity<Object> result = itemClient.findById(itemId, userId);
+
+            assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+            assertEquals(eTag, result.getHeaders().getETag());
+            assertFalse(result.hasBody());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    public void testFindItemByIdWithFields() {
+        long userId = 1;
+        long itemId = 1;
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("fields", "id,name");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        ResponseEntity<Object> expectedResult = ResponseEntity.ok(Map.of("id", 1, "name", "Item1"));
+        Map<String, Object> parameters = Map.of("itemId", itemId, "fields", "id,name");
+
+        when(mockRestTemplate.exchange("/{itemId}?fields={fields}", HttpMethod.GET, getHttpEntity(null, userId),
+                Object.class, parameters)).thenReturn(expectedResult);
+
+        try {
+            ResponseEntity<Object> result = itemClient.findById(itemId, userId);
+
+            assertEquals(expectedResult, result);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    public void testSearchItemOverSmile() {
+        ItemClient smileItemClient = new ItemClient(mockRestTemplate);
+        smileItemClient.setInternalCodec(new InternalCodec(InternalCodec.SMILE));
+        String text = "Search IT!";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(InternalCodec.SMILE);
+        headers.setAccept(List.of(InternalCodec.SMILE, MediaType.APPLICATION_JSON));
+        Map<String, Object> parameters = Map.of("text", text);
+
+        when(mockRestTemplate.exchange("/search?text={text}", HttpMethod.GET, new HttpEntity<>(null, headers),
+                Object.class, parameters)).thenReturn(ResponseEntity.ok()
+                .contentType(InternalCodec.SMILE)
+                .contentLength(42)
+                .body(List.of(itemResponseDto)));
+
+        ResponseEntity<Object> result = smileItemClient.search(text);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(itemResponseDto), result.getBody());
+        assertNull(result.getHeaders().getContentType());
+        assertEquals(-1, result.getHeaders().getContentLength());
+    }
+
     @Test
     public void testSearchItem() {
         String text = "Search IT!";
@@ -164,6 +247,25 @@ public class ItemClientTest {
                 Object.class, parameters);
     }
 
+    @Test
+    public void testFindCommentsAfterCursor() {
+        long itemId = 1;
+        String cursor = "MjAyMy0wNi0wMVQxMjowMHw0Mg";
+        ResponseEntity<Object> expectedResult = ResponseEntity.ok(Map.of("comments", List.of()));
+        HttpEntity<Object> requestEntity = getHttpEntity(null, null);
+        Map<String, Object> parameters = Map.of("itemId", itemId, "size", 10, "cursor", cursor);
+
+        when(mockRestTemplate.exchange("/{itemId}/comments?size={size}&cursor={cursor}", HttpMethod.GET,
+                requestEntity, Object.class, parameters)).thenReturn(expectedResult);
+
+        ResponseEntity<Object> result = itemClient.findComments(itemId, cursor, 10);
+
+        assertNotNull(result);
+        assertEquals(expectedResult, result);
+        verify(mockRestTemplate, times(1)).exchange("/{itemId}/comments?size={size}&cursor={cursor}",
+                HttpMethod.GET, requestEntity, Object.class, parameters);
+    }
+
     @Test
     public void testAddComment() {
         long userId = 1;
@@ -6,18 +6,34 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.common.resilience.Bulkhead;
+import ru.practicum.shareit.common.resilience.CircuitBreaker;
+import ru.practicum.shareit.common.resilience.ResilienceProperties;
+import ru.practicum.shareit.common.resilience.UpstreamGuard;
+import ru.practicum.shareit.common.resilience.UpstreamGuards;
 import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -105,15 +121,82 @@ public class UserClientTest {
     public void testFindAllUsers() {
         ResponseEntity<Object> expectedResult = ResponseEntity.ok(List.of(userResponseDto, userResponseDto2));
         HttpEntity<Object> requestEntity = getHttpEntity(null);
+        Map<String, Object> parameters = Map.of("afterId", 0L, "size", 100);
 
-        when(mockRestTemplate.exchange("", HttpMethod.GET, requestEntity, Object.class)).thenReturn(expectedResult);
+        when(mockRestTemplate.exchange("?afterId={afterId}&size={size}", HttpMethod.GET, requestEntity, Object.class,
+                parameters)).thenReturn(expectedResult);
 
-        ResponseEntity<Object> result = userClient.findAll();
+        ResponseEntity<Object> result = userClient.findAll(0L, 100);
 
         assertNotNull(result);
         assertEquals(expectedResult, result);
         verify(mockRestTemplate, times(1))
-                .exchange("", HttpMethod.GET, requestEntity, Object.class);
+                .exchange("?afterId={afterId}&size={size}", HttpMethod.GET, requestEntity, Object.class, parameters);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExportUsers() {
+        String body = "{\"id\":1,\"email\":\"e@mail.com\",\"name\":\"name\"}\n" +
+                "{\"id\":2,\"email\":\"another_e@mail.com\",\"name\":\"another name\"}\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        when(mockRestTemplate.execute(eq("/export"), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+                    ResponseExtractor<Object> extractor = invocation.getArgument(3);
+                    return extractor.extractData(new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8),
+                            HttpStatus.OK));
+                });
+
+        ResponseEntity<Object> result = userClient.export(out);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(body, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExportUsersPassesServerErrorThrough() {
+        byte[] error = "{\"error\":\"Service unavailable\"}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        when(mockRestTemplate.execute(eq("/export"), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+                    ResponseExtractor<Object> extractor = invocation.getArgument(3);
+                    MockClientHttpResponse response = new MockClientHttpResponse(error,
+                            HttpStatus.SERVICE_UNAVAILABLE);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return extractor.extractData(response);
+                });
+
+        ResponseEntity<Object> result = userClient.export(out);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertArrayEquals(error, (byte[]) result.getBody());
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExportUsersHoldsBulkheadPermitWhileStreaming() {
+        UpstreamGuard guard = new UpstreamGuard("UserClient", new Bulkhead(1, Duration.ZERO),
+                new CircuitBreaker("UserClient", new ResilienceProperties.CircuitBreaker(), Clock.systemUTC()));
+        UpstreamGuards upstreamGuards = mock(UpstreamGuards.class);
+        when(upstreamGuards.get("UserClient")).thenReturn(guard);
+        userClient.setUpstreamGuards(upstreamGuards);
+
+        when(mockRestTemplate.execute(eq("/export"), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+                    assertEquals(0, guard.getBulkhead().getAvailable());
+                    ResponseExtractor<Object> extractor = invocation.getArgument(3);
+                    return extractor.extractData(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+                });
+
+        userClient.export(new ByteArrayOutputStream());
+
+        assertEquals(1, guard.getBulkhead().getAvailable());
+        verify(upstreamGuards, times(1)).get("UserClient");
     }
 
     @Test
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Seeds users, items, requests and bookings through the gateway. The first {@code powerOwners} users own most
+ * of the items, and most bookings go to those items, so owner booking lists are skewed like in production.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DataSeeder {
+    private static final String[] NAMES = {"Drill", "Saw", "Ladder", "Tent", "Bike", "Kayak", "Projector", "Grill"};
+
+    private final ShareItApi api;
+    private final LoadConfig config;
+    private final Random random = new Random(42);
+
+    public SeedData seed() throws IOException, InterruptedException {
+        SeedData data = new SeedData();
+
+        for (int i = 0; i < config.getUsers(); i++) {
+            long userId = api.createUser("User " + i, "user" + i + "@load.test");
+            data.getUserIds().add(userId);
+            if (i < config.getPowerOwners()) {
+                data.getPowerOwnerIds().add(userId);
+            }
+        }
+
+        for (int i = 0; i < data.getUserIds().size(); i++) {
+            long ownerId = data.getUserIds().get(i);
+            int items = i < config.getPowerOwners() ? config.getItemsPerPowerOwner() : config.getItemsPerOwner();
+            for (int j = 0; j < items; j++) {
+                String name = NAMES[random.nextInt(NAMES.length)];
+                long itemId = api.createItem(ownerId, name + " #" + j,
+                        name + " in good condition, pick up near the metro station");
+                data.getItemIds().add(itemId);
+                data.getItemOwners().put(itemId, ownerId);
+            }
+            for (int j = 0; j < config.getRequestsPerUser(); j++) {
+                data.getRequestIds().add(api.createRequest(ownerId,
+                        "Looking for a " + NAMES[random.nextInt(NAMES.length)].toLowerCase()));
+            }
+        }
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (long bookerId : data.getUserIds()) {
+            for (int j = 0; j < config.getBookingsPerUser(); j++) {
+                long itemId = pickItemNotOwnedBy(data, bookerId);
+                long bookingId = api.createBooking(bookerId, itemId, start.plusMinutes(random.nextInt(100_000)));
+                data.getBookingIds().add(bookingId);
+                data.getBookingUsers().put(bookingId, bookerId);
+                if (random.nextBoolean()) {
+                    api.approve(data.getItemOwners().get(itemId), bookingId);
+                }
+            }
+        }
+
+        seedFinishedBookings(data);
+
+        log.info("Seeded {} users, {} items, {} bookings", data.getUserIds().size(), data.getItemIds().size(),
+                data.getBookingIds().size());
+        return data;
+    }
+
+    /**
+     * Books items for a second and approves the bookings, then waits for them to end, so that the bookers may
+     * comment on the items. Bookings can't start in the past, so this is the only way to get finished ones.
+     */
+    private void seedFinishedBookings(SeedData data) throws IOException, InterruptedException {
+        LocalDateTime lastEnd = LocalDateTime.now();
+        for (int i = 0; i < config.getFinishedBookings(); i++) {
+            long bookerId = data.getUserIds().get(random.nextInt(data.getUserIds().size()));
+            long itemId = pickItemNotOwnedBy(data, bookerId);
+            LocalDateTime start = LocalDateTime.now().plusSeconds(1);
+            lastEnd = start.plusSeconds(1);
+            long bookingId = api.createBooking(bookerId, itemId, start, lastEnd);
+            api.approve(data.getItemOwners().get(itemId), bookingId);
+            data.getCommentable().add(new long[]{bookerId, itemId});
+        }
+
+        long waitMillis = Duration.between(LocalDateTime.now(), lastEnd).toMillis() + 1000;
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+    }
+
+    /**
+     * Picks a random item the user doesn't own, preferring items of power owners.
+     */
+    public static long pickItemNotOwnedBy(SeedData data, long userId, Random random) {
+        while (true) {
+            long itemId = data.getItemIds().get(random.nextInt(data.getItemIds().size()));
+            long ownerId = data.getItemOwners().get(itemId);
+            boolean powerOwned = data.getPowerOwnerIds().contains(ownerId);
+            if (ownerId != userId && (powerOwned || random.nextInt(5) == 0)) {
+                return itemId;
+            }
+        }
+    }
+
+    private long pickItemNotOwnedBy(SeedData data, long userId) {
+        return pickItemNotOwnedBy(data, userId, random);
+    }
+}
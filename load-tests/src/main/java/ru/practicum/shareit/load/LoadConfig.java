@@ -0,0 +1,35 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test settings, read from {@code -Dload.*} system properties.
+ */
+@Getter
+public class LoadConfig {
+    private final String serverJar = System.getProperty("load.server-jar",
+            "server/target/server-0.0.1-SNAPSHOT-exec.jar");
+    private final String gatewayJar = System.getProperty("load.gateway-jar",
+            "gateway/target/gateway-0.0.1-SNAPSHOT.jar");
+    private final String reportFile = System.getProperty("load.report", "load-tests/target/load-report.csv");
+
+    private final int users = Integer.getInteger("load.users", 300);
+    private final int powerOwners = Integer.getInteger("load.power-owners", 5);
+    private final int itemsPerOwner = Integer.getInteger("load.items-per-owner", 2);
+    private final int itemsPerPowerOwner = Integer.getInteger("load.items-per-power-owner", 100);
+    private final int bookingsPerUser = Integer.getInteger("load.bookings-per-user", 5);
+    private final int requestsPerUser = Integer.getInteger("load.requests-per-user", 1);
+    private final int finishedBookings = Integer.getInteger("load.finished-bookings", 50);
+
+    private final int concurrency = Integer.getInteger("load.concurrency", 32);
+    private final Duration warmUp = Duration.ofSeconds(Integer.getInteger("load.warm-up-seconds", 10));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+    private final Duration startupTimeout = Duration.ofSeconds(Integer.getInteger("load.startup-timeout-seconds", 120));
+
+    private final List<String> scenarios = Arrays.asList(System.getProperty("load.scenarios",
+            "search-storm,owner-bookings,booking-burst,browse,write-mix").split(","));
+}
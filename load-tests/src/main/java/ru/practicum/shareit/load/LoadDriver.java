@@ -0,0 +1,77 @@
+package ru.practicum.shareit.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs a scenario with a fixed number of closed-loop workers: each worker sends the next request as soon as
+ * the previous one completes. Nothing is recorded during warm-up.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadDriver {
+    private final HttpClient client;
+    private final int concurrency;
+
+    public Map<String, EndpointStats> run(Scenario scenario, Duration warmUp, Duration duration)
+            throws InterruptedException {
+        log.info("Running {}: {} workers, {} warm-up, {} measured", scenario.getName(), concurrency, warmUp, duration);
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> work(scenario, stats, measureFrom, stopAt),
+                    scenario.getName() + "-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return new TreeMap<>(stats);
+    }
+
+    private void work(Scenario scenario, Map<String, EndpointStats> stats, long measureFrom, long stopAt) {
+        long now = System.nanoTime();
+        while (now < stopAt) {
+            LoadRequest request = scenario.next();
+            boolean success;
+            try {
+                if (request.getOnSuccess() == null) {
+                    success = client.send(request.getRequest(), HttpResponse.BodyHandlers.discarding())
+                            .statusCode() / 100 == 2;
+                } else {
+                    HttpResponse<String> response = client.send(request.getRequest(),
+                            HttpResponse.BodyHandlers.ofString());
+                    success = response.statusCode() / 100 == 2;
+                    if (success) {
+                        request.getOnSuccess().accept(response.body());
+                    }
+                }
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long completed = System.nanoTime();
+            if (now >= measureFrom) {
+                stats.computeIfAbsent(request.getEndpoint(), endpoint -> new EndpointStats())
+                        .record(completed - now, success);
+            }
+            now = completed;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects per-endpoint results of all scenarios, prints them as a table and writes them to CSV.
+ */
+public class LoadReport {
+    private static final String HEADER = "scenario,endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms";
+
+    private final List<String> rows = new ArrayList<>();
+
+    public void add(String scenario, Duration duration, Map<String, EndpointStats> stats) {
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram latencies = endpointStats.getLatencies();
+            rows.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                    scenario,
+                    endpoint,
+                    latencies.getTotalCount(),
+                    endpointStats.getErrors().sum(),
+                    latencies.getTotalCount() / (double) duration.toSeconds(),
+                    toMillis(latencies.getValueAtPercentile(50)),
+                    toMillis(latencies.getValueAtPercentile(99)),
+                    toMillis(latencies.getMaxValue())));
+        });
+    }
+
+    public void print() {
+        System.out.println();
+        System.out.printf("%-16s %-26s %9s %7s %10s %9s %9s %9s%n", (Object[]) HEADER.split(","));
+        for (String row : rows) {
+            System.out.printf("%-16s %-26s %9s %7s %10s %9s %9s %9s%n", (Object[]) row.split(","));
+        }
+        System.out.println();
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println(HEADER);
+            rows.forEach(writer::println);
+        }
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
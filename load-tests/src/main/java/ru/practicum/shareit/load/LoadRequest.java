@@ -0,0 +1,25 @@
+package ru.practicum.shareit.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.net.http.HttpRequest;
+import java.util.function.Consumer;
+
+/**
+ * A request together with the endpoint it is reported under, e.g. {@code GET /items/{itemId}}.
+ */
+@Value
+@AllArgsConstructor
+public class LoadRequest {
+    String endpoint;
+    HttpRequest request;
+    /**
+     * Receives the body of a successful response, e.g. to remember the id of a created resource. May be null.
+     */
+    Consumer<String> onSuccess;
+
+    public LoadRequest(String endpoint, HttpRequest request) {
+        this(endpoint, request, null);
+    }
+}
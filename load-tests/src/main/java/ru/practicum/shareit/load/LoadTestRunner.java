@@ -0,0 +1,57 @@
+package ru.practicum.shareit.load;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Starts Postgres, the server and the gateway, seeds data through the gateway and runs the load scenarios.
+ *
+ * <p>Build the application jars first, then run from the project root:
+ * {@code mvn -pl load-tests exec:java -Dload.duration-seconds=60}
+ */
+@Slf4j
+public class LoadTestRunner {
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = new LoadConfig();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             AppProcess server = AppProcess.start("server", config.getServerJar(), List.of(
+                     "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                     "--spring.datasource.username=postgres",
+                     "--spring.datasource.password=postgres"))) {
+            server.awaitReady(config.getStartupTimeout());
+
+            try (AppProcess gateway = AppProcess.start("gateway", config.getGatewayJar(), List.of(
+                    "--shareit-server.url=" + server.getBaseUri()))) {
+                gateway.awaitReady(config.getStartupTimeout());
+                run(config, gateway);
+            }
+        }
+    }
+
+    private static void run(LoadConfig config, AppProcess gateway) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ShareItApi api = new ShareItApi(gateway.getBaseUri(), client);
+        SeedData data = new DataSeeder(api, config).seed();
+
+        LoadDriver driver = new LoadDriver(client, config.getConcurrency());
+        LoadReport report = new LoadReport();
+        for (String name : config.getScenarios()) {
+            Scenario scenario = Scenarios.create(name.trim(), api, data);
+            report.add(scenario.getName(), config.getDuration(),
+                    driver.run(scenario, config.getWarmUp(), config.getDuration()));
+        }
+
+        report.print();
+        report.write(Path.of(config.getReportFile()));
+        log.info("Report written to {}", config.getReportFile());
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.load;
+
+import lombok.Value;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+@Value
+public class Scenario {
+    String name;
+    Function<ThreadLocalRandom, LoadRequest> requests;
+
+    public LoadRequest next() {
+        return requests.apply(ThreadLocalRandom.current());
+    }
+}
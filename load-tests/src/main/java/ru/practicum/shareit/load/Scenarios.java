@@ -0,0 +1,76 @@
+package ru.practicum.shareit.load;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class Scenarios {
+    private static final String[] SEARCH_TERMS = {"drill", "saw", "ladder", "tent", "bike", "metro", "condition"};
+
+    private Scenarios() {
+    }
+
+    public static Scenario create(String name, ShareItApi api, SeedData data) {
+        switch (name) {
+            case "search-storm":
+                return new Scenario(name, random -> search(api, random));
+            case "owner-bookings":
+                return new Scenario(name, random -> ownerBookings(api, data, random));
+            case "booking-burst":
+                return new Scenario(name, random -> createBooking(api, data, random));
+            case "browse":
+                return new Scenario(name, random -> browse(api, data, random));
+            case "write-mix":
+                return new Scenario(name, new WriteMix(api, data)::next);
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + name);
+        }
+    }
+
+    private static LoadRequest search(ShareItApi api, Random random) {
+        String text = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+        return new LoadRequest("GET /items/search", api.get("/items/search?text=" + text, null));
+    }
+
+    private static LoadRequest ownerBookings(ShareItApi api, SeedData data, Random random) {
+        long ownerId = random.nextInt(10) < 8 ? pick(data.getPowerOwnerIds(), random)
+                : pick(data.getUserIds(), random);
+        return new LoadRequest("GET /bookings/owner",
+                api.get("/bookings/owner?state=ALL&from=0&size=20", ownerId));
+    }
+
+    private static LoadRequest createBooking(ShareItApi api, SeedData data, Random random) {
+        long bookerId = pick(data.getUserIds(), random);
+        long itemId = DataSeeder.pickItemNotOwnedBy(data, bookerId, random);
+        LocalDateTime start = LocalDateTime.now().plusDays(2).plusMinutes(random.nextInt(100_000));
+        return new LoadRequest("POST /bookings", api.bookingRequest(bookerId, itemId, start));
+    }
+
+    private static LoadRequest browse(ShareItApi api, SeedData data, ThreadLocalRandom random) {
+        long userId = pick(data.getUserIds(), random);
+        switch (random.nextInt(8)) {
+            case 0:
+                return new LoadRequest("GET /users/{userId}", api.get("/users/" + userId, userId));
+            case 1:
+                return new LoadRequest("GET /items", api.get("/items", userId));
+            case 2:
+                return new LoadRequest("GET /bookings", api.get("/bookings?state=ALL&from=0&size=20", userId));
+            case 3:
+                long bookingId = pick(data.getBookingIds(), random);
+                return new LoadRequest("GET /bookings/{bookingId}",
+                        api.get("/bookings/" + bookingId, data.getBookingUsers().get(bookingId)));
+            case 4:
+                return new LoadRequest("GET /requests", api.get("/requests", userId));
+            case 5:
+                return new LoadRequest("GET /requests/all", api.get("/requests/all?from=0&size=20", userId));
+            default:
+                return new LoadRequest("GET /items/{itemId}",
+                        api.get("/items/" + pick(data.getItemIds(), random), userId));
+        }
+    }
+
+    private static long pick(List<Long> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class SeedData {
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> powerOwnerIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+    private final Map<Long, Long> itemOwners = new HashMap<>();
+    private final List<Long> bookingIds = new ArrayList<>();
+    private final Map<Long, Long> bookingUsers = new HashMap<>();
+    private final List<Long> requestIds = new ArrayList<>();
+    /**
+     * Booker and item of finished approved bookings, i.e. the users who may comment on the items.
+     */
+    private final List<long[]> commentable = new ArrayList<>();
+}
@@ -0,0 +1,139 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds gateway requests. Used by the seeder (blocking calls with parsed responses) and by the scenarios.
+ */
+public class ShareItApi {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ShareItApi(URI baseUri, HttpClient client) {
+        this.baseUri = baseUri;
+        this.client = client;
+    }
+
+    public long createUser(String name, String email) throws IOException, InterruptedException {
+        return send(post("/users", null, Map.of("name", name, "email", email))).get("id").asLong();
+    }
+
+    public long createItem(long ownerId, String name, String description) throws IOException, InterruptedException {
+        return send(post("/items", ownerId, Map.of(
+                "name", name,
+                "description", description,
+                "available", true))).get("id").asLong();
+    }
+
+    public long createRequest(long userId, String description) throws IOException, InterruptedException {
+        return send(post("/requests", userId, Map.of("description", description))).get("id").asLong();
+    }
+
+    public long createBooking(long bookerId, long itemId, LocalDateTime start) throws IOException,
+            InterruptedException {
+        return send(bookingRequest(bookerId, itemId, start)).get("id").asLong();
+    }
+
+    public long createBooking(long bookerId, long itemId, LocalDateTime start, LocalDateTime end)
+            throws IOException, InterruptedException {
+        return send(bookingRequest(bookerId, itemId, start, end)).get("id").asLong();
+    }
+
+    public void approve(long ownerId, long bookingId) throws IOException, InterruptedException {
+        send(patch("/bookings/" + bookingId + "?approved=true", ownerId, null));
+    }
+
+    public HttpRequest bookingRequest(long bookerId, long itemId, LocalDateTime start) {
+        return bookingRequest(bookerId, itemId, start, start.plusHours(2));
+    }
+
+    public HttpRequest bookingRequest(long bookerId, long itemId, LocalDateTime start, LocalDateTime end) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("itemId", itemId);
+        body.put("start", start.toString());
+        body.put("end", end.toString());
+        return post("/bookings", bookerId, body);
+    }
+
+    public HttpRequest get(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).GET();
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder.build();
+    }
+
+    public HttpRequest post(String path, Long userId, Map<String, Object> body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder.build();
+    }
+
+    public HttpRequest patch(String path, Long userId, Map<String, Object> body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder.build();
+    }
+
+    public HttpRequest delete(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).DELETE();
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the {@code id} of a created resource from its response body.
+     */
+    public long readId(String body) {
+        try {
+            return objectMapper.readTree(body).get("id").asLong();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(String.format("%s %s returned %d: %s", request.method(), request.uri(),
+                    response.statusCode(), response.body()));
+        }
+        return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+    }
+
+    private String toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.load;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The endpoints the read scenarios don't cover: creating, changing and deleting users, items, bookings, comments
+ * and requests, plus the user list, item comments and single requests. Users, items and bookings are changed
+ * and deleted only after the scenario created them itself, so the seeded data the other scenarios read stays
+ * intact. When there is nothing to change yet, the request creates it instead.
+ */
+class WriteMix {
+    private final ShareItApi api;
+    private final SeedData data;
+    private final AtomicLong userCounter = new AtomicLong();
+    private final Queue<Long> createdUsers = new ConcurrentLinkedQueue<>();
+    /**
+     * Item id and owner id of the items created by the scenario.
+     */
+    private final Queue<long[]> createdItems = new ConcurrentLinkedQueue<>();
+    /**
+     * Booking id and item owner id of the bookings created by the scenario and not decided on yet.
+     */
+    private final Queue<long[]> waitingBookings = new ConcurrentLinkedQueue<>();
+
+    WriteMix(ShareItApi api, SeedData data) {
+        this.api = api;
+        this.data = data;
+    }
+
+    LoadRequest next(ThreadLocalRandom random) {
+        switch (random.nextInt(13)) {
+            case 0:
+                return createUser();
+            case 1:
+                long userId = pick(data.getUserIds(), random);
+                return new LoadRequest("PATCH /users/{userId}", api.patch("/users/" + userId, null,
+                        Map.of("name", "User " + userId + " v" + random.nextInt(1000))));
+            case 2:
+                Long deletedUserId = createdUsers.poll();
+                return deletedUserId == null ? createUser()
+                        : new LoadRequest("DELETE /users/{userId}", api.delete("/users/" + deletedUserId, null));
+            case 3:
+                return new LoadRequest("GET /users",
+                        api.get("/users?afterId=" + pick(data.getUserIds(), random) + "&size=20", null));
+            case 4:
+                return createItem(random);
+            case 5:
+                long[] item = createdItems.poll();
+                return item == null ? createItem(random) : new LoadRequest("PATCH /items/{itemId}",
+                        api.patch("/items/" + item[0], item[1], Map.of("description", "Updated " + random.nextInt())),
+                        body -> createdItems.offer(item));
+            case 6:
+                long[] deletedItem = createdItems.poll();
+                return deletedItem == null ? createItem(random) : new LoadRequest("DELETE /items/{itemId}",
+                        api.delete("/items/" + deletedItem[0], deletedItem[1]));
+            case 7:
+                return createBooking(random);
+            case 8:
+                long[] booking = waitingBookings.poll();
+                return booking == null ? createBooking(random) : new LoadRequest("PATCH /bookings/{bookingId}",
+                        api.patch("/bookings/" + booking[0] + "?approved=" + random.nextBoolean(), booking[1], null));
+            case 9:
+                long[] commenter = data.getCommentable().get(random.nextInt(data.getCommentable().size()));
+                return new LoadRequest("POST /items/{itemId}/comment", api.post("/items/" + commenter[1] + "/comment",
+                        commenter[0], Map.of("text", "Worked fine, thanks #" + random.nextInt(1000))));
+            case 10:
+                long[] commented = data.getCommentable().get(random.nextInt(data.getCommentable().size()));
+                return new LoadRequest("GET /items/{itemId}/comments",
+                        api.get("/items/" + commented[1] + "/comments?size=20", null));
+            case 11:
+                return new LoadRequest("POST /requests", api.post("/requests", pick(data.getUserIds(), random),
+                        Map.of("description", "Looking for something #" + random.nextInt(1000))));
+            default:
+                return new LoadRequest("GET /requests/{requestId}", api.get("/requests/"
+                        + pick(data.getRequestIds(), random), pick(data.getUserIds(), random)));
+        }
+    }
+
+    private LoadRequest createUser() {
+        long n = userCounter.incrementAndGet();
+        return new LoadRequest("POST /users", api.post("/users", null,
+                Map.of("name", "Writer " + n, "email", "writer" + n + "@load.test")),
+                body -> createdUsers.offer(api.readId(body)));
+    }
+
+    private LoadRequest createItem(Random random) {
+        long ownerId = pick(data.getUserIds(), random);
+        return new LoadRequest("POST /items", api.post("/items", ownerId,
+                Map.of("name", "Spare #" + random.nextInt(1000), "description", "Spare part", "available", true)),
+                body -> createdItems.offer(new long[]{api.readId(body), ownerId}));
+    }
+
+    private LoadRequest createBooking(Random random) {
+        long bookerId = pick(data.getUserIds(), random);
+        long itemId = DataSeeder.pickItemNotOwnedBy(data, bookerId, random);
+        long ownerId = data.getItemOwners().get(itemId);
+        LocalDateTime start = LocalDateTime.now().plusDays(2).plusMinutes(random.nextInt(100_000));
+        return new LoadRequest("POST /bookings", api.bookingRequest(bookerId, itemId, start),
+                body -> waitingBookings.offer(new long[]{api.readId(body), ownerId}));
+    }
+
+    private static long pick(List<Long> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
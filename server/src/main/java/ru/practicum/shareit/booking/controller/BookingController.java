@@ -10,12 +10,16 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.common.ETags;
+import ru.practicum.shareit.common.Fields;
 
 import java.util.List;
 
+import static ru.practicum.shareit.common.Fields.PARAMETER;
 import static ru.practicum.shareit.common.Variables.USER_HEADER;
 
 @RestController
@@ -41,8 +45,14 @@ public class BookingController {
     @GetMapping("/{bookingId}")
     public BookingResponseDto findById(
             @PathVariable Long bookingId,
-            @RequestHeader(USER_HEADER) Long userId) {
-        return bookingService.findByIdAndUserId(bookingId, userId);
+            @RequestHeader(USER_HEADER) Long userId,
+            @RequestParam(name = PARAMETER, required = false) String fields,
+            WebRequest request) {
+        Fields fieldset = Fields.parse(fields);
+        if (request.checkNotModified(ETags.withFields(bookingService.findETag(bookingId, userId), fieldset))) {
+            return null;
+        }
+        return bookingService.findByIdAndUserId(bookingId, userId, fieldset);
     }
 
     @GetMapping
@@ -50,8 +60,9 @@ public class BookingController {
             @RequestHeader(USER_HEADER) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam int from,
-            @RequestParam int size) {
-        return bookingService.findByUserIdAndState(userId, state, from, size);
+            @RequestParam int size,
+            @RequestParam(name = PARAMETER, required = false) String fields) {
+        return bookingService.findByUserIdAndState(userId, state, from, size, Fields.parse(fields));
     }
 
     @GetMapping("/owner")
@@ -59,7 +70,8 @@ public class BookingController {
             @RequestHeader(USER_HEADER) Long ownerId,
             @RequestParam String state,
             @RequestParam int from,
-            @RequestParam Integer size) {
-        return bookingService.findByOwnerIdAndState(ownerId, state, from, size);
+            @RequestParam Integer size,
+            @RequestParam(name = PARAMETER, required = false) String fields) {
+        return bookingService.findByOwnerIdAndState(ownerId, state, from, size, Fields.parse(fields));
     }
 }
@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.dto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.common.Fields;
 import ru.practicum.shareit.item.dto.item.ItemMapper;
 import ru.practicum.shareit.item.dto.item.ItemResponseDto;
 import ru.practicum.shareit.item.service.ItemService;
@@ -17,12 +18,33 @@ public class BookingMapper {
     private final UserService userService;
 
     public BookingResponseDto toBookingResponseDto(Booking booking) {
+        return toBookingResponseDto(booking, Fields.ALL);
+    }
+
+    /**
+     * Loads only the item and booker data the fieldset asks for, e.g. no query at all for {@code item.id}. The item
+     * is read without its comments, bookings only refer to it.
+     */
+    public BookingResponseDto toBookingResponseDto(Booking booking, Fields fields) {
         if (booking == null) {
             return null;
         }
 
-        ItemResponseDto item = ItemMapper.toItemResponseDto(itemService.findById(booking.getItemId()));
-        UserResponseDto booker = UserMapper.toUserResponseDto(userService.findUserById(booking.getBookerId()));
+        ItemResponseDto item = null;
+        Fields itemFields = fields.nested("item");
+        if (itemFields.isIdOnly()) {
+            item = ItemResponseDto.builder().id(booking.getItemId()).build();
+        } else if (fields.includes("item")) {
+            item = ItemMapper.toItemResponseDto(itemService.findById(booking.getItemId(), false));
+        }
+
+        UserResponseDto booker = null;
+        Fields bookerFields = fields.nested("booker");
+        if (bookerFields.isIdOnly()) {
+            booker = UserResponseDto.builder().id(booking.getBookerId()).build();
+        } else if (fields.includes("booker")) {
+            booker = UserMapper.toUserResponseDto(userService.findUserById(booking.getBookerId()));
+        }
 
         return BookingResponseDto.builder()
                 .id(booking.getId())
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,10 +9,12 @@ import ru.practicum.shareit.item.dto.item.ItemResponseDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class BookingResponseDto {
     private Long id;
     private ItemResponseDto item;
@@ -19,4 +22,29 @@ public class BookingResponseDto {
     private LocalDateTime start;
     private LocalDateTime end;
     private BookingStatus status;
+
+    /**
+     * Used by the list queries of {@link ru.practicum.shareit.booking.repo.BookingRepository} to build the response
+     * straight from the selected columns.
+     */
+    public BookingResponseDto(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status, Long itemId,
+                              String itemName, String itemDescription, Boolean itemAvailable, Long bookerId,
+                              String bookerName, String bookerEmail) {
+        this.id = id;
+        this.start = start;
+        this.end = end;
+        this.status = status;
+        this.item = ItemResponseDto.builder()
+                .id(itemId)
+                .name(itemName)
+                .description(itemDescription)
+                .available(itemAvailable)
+                .comments(new ArrayList<>())
+                .build();
+        this.booker = UserResponseDto.builder()
+                .id(bookerId)
+                .name(bookerName)
+                .email(bookerEmail)
+                .build();
+    }
 }
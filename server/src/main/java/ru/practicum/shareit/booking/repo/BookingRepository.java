@@ -4,6 +4,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.user.model.User;
@@ -13,6 +14,14 @@ import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    /**
+     * Common part of the list queries below. They select the response columns directly, so no entity is loaded
+     * into the persistence context and the item and booker don't need a query per booking.
+     */
+    String SELECT_RESPONSE_DTO = "SELECT new ru.practicum.shareit.booking.dto.BookingResponseDto(b.id, b.start, " +
+            "b.end, b.status, i.id, i.name, i.description, i.available, u.id, u.name, u.email) " +
+            "FROM Booking b, Item i, User u WHERE b.itemId = i.id AND b.bookerId = u.id AND ";
+
     List<Booking> findByBookerId(Long bookerId, Pageable pageable);
 
     List<Booking> findByBookerIdAndStatusOrderByStartDesc(Long bookerId, BookingStatus status, Pageable pageable);
@@ -24,8 +33,11 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByBookerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime start,
                                                               LocalDateTime end, Pageable pageable);
 
-    List<Booking> findByBookerIdAndItemIdAndEndIsBeforeAndStatusOrderById(Long bookerId, Long itemId, LocalDateTime now,
-                                                                          BookingStatus bookingStatus);
+    /**
+     * Stops at the first matching row of the {@code (booker_id, item_id, status, end_date)} index.
+     */
+    boolean existsByBookerIdAndItemIdAndStatusAndEndIsBefore(Long bookerId, Long itemId, BookingStatus status,
+                                                             LocalDateTime end);
 
     @Query("SELECT b FROM Booking b, Item i WHERE b.itemId = i.id AND i.owner = :owner")
     List<Booking> findByOwnerId(@Param("owner") User owner, Pageable pageable);
@@ -46,6 +58,51 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "b.start <= CURRENT_TIMESTAMP AND b.end >= CURRENT_TIMESTAMP")
     List<Booking> findByOwnerIdInCurrent(@Param("owner") User owner, Pageable pageable);
 
+    @Query(SELECT_RESPONSE_DTO + "b.bookerId = :bookerId")
+    List<BookingResponseDto> findDtosByBookerId(@Param("bookerId") Long bookerId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "b.bookerId = :bookerId AND b.status = :status")
+    List<BookingResponseDto> findDtosByBookerIdAndStatus(@Param("bookerId") Long bookerId,
+                                                         @Param("status") BookingStatus status, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "b.bookerId = :bookerId AND b.end < :now")
+    List<BookingResponseDto> findDtosByBookerIdInPast(@Param("bookerId") Long bookerId,
+                                                      @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "b.bookerId = :bookerId AND b.start > :now")
+    List<BookingResponseDto> findDtosByBookerIdInFuture(@Param("bookerId") Long bookerId,
+                                                        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "b.bookerId = :bookerId AND b.start < :now AND b.end > :now")
+    List<BookingResponseDto> findDtosByBookerIdInCurrent(@Param("bookerId") Long bookerId,
+                                                         @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "i.owner.id = :ownerId")
+    List<BookingResponseDto> findDtosByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "i.owner.id = :ownerId AND b.status = :status")
+    List<BookingResponseDto> findDtosByOwnerIdAndStatus(@Param("ownerId") Long ownerId,
+                                                        @Param("status") BookingStatus status, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "i.owner.id = :ownerId AND b.start > CURRENT_TIMESTAMP")
+    List<BookingResponseDto> findDtosByOwnerIdInFuture(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "i.owner.id = :ownerId AND b.end < CURRENT_TIMESTAMP")
+    List<BookingResponseDto> findDtosByOwnerIdInPast(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "i.owner.id = :ownerId AND b.start <= CURRENT_TIMESTAMP AND " +
+            "b.end >= CURRENT_TIMESTAMP")
+    List<BookingResponseDto> findDtosByOwnerIdInCurrent(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    /**
+     * Fingerprint of {@code GET /bookings/{bookingId}}: versions of the booking, its booker and item. Empty if
+     * the user is neither the booker nor the owner.
+     */
+    @Query(value = "SELECT CONCAT(b.id, ':', b.version, ':', u.version, ':', i.version) " +
+            "FROM booking b JOIN item i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id " +
+            "WHERE b.id = :bookingId AND (b.booker_id = :userId OR i.owner_id = :userId)", nativeQuery = true)
+    Optional<String> findFingerprint(@Param("bookingId") Long bookingId, @Param("userId") Long userId);
+
     @Query(value = "SELECT * FROM Booking WHERE item_id = :itemId AND start_date < CURRENT_TIMESTAMP AND " +
             "status = 'APPROVED' ORDER BY start_date DESC LIMIT 1", nativeQuery = true)
     Optional<Booking> findLastBookingByItemId(@Param("itemId") Long itemId);
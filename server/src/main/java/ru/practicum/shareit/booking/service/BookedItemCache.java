@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.Value;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pairs of users and items the user has finished an approved booking of. Such a booking ends in the past and
+ * can't be changed any more, so a pair never becomes stale and the set only needs a bound: when it is full it is
+ * simply cleared and refilled by the following checks.
+ */
+class BookedItemCache {
+    private final Set<Key> keys = ConcurrentHashMap.newKeySet();
+    private final int maxEntries;
+
+    BookedItemCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    boolean contains(Long userId, Long itemId) {
+        return keys.contains(new Key(userId, itemId));
+    }
+
+    void add(Long userId, Long itemId) {
+        if (keys.size() >= maxEntries) {
+            keys.clear();
+        }
+        keys.add(new Key(userId, itemId));
+    }
+
+    @Value
+    private static class Key {
+        Long userId;
+        Long itemId;
+    }
+}
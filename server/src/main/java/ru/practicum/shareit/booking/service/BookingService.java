@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.service;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.common.Fields;
 
 import java.util.List;
 
@@ -13,12 +14,20 @@ public interface BookingService {
 
     BookingResponseDto findByIdAndUserId(Long bookingId, Long userId);
 
+    BookingResponseDto findByIdAndUserId(Long bookingId, Long userId, Fields fields);
+
+    String findETag(Long bookingId, Long userId);
+
     BookingResponseDto findById(Long bookingId);
 
     List<BookingResponseDto> findByUserIdAndState(Long userId, String state, int from, int size);
 
+    List<BookingResponseDto> findByUserIdAndState(Long userId, String state, int from, int size, Fields fields);
+
     List<BookingResponseDto> findByOwnerIdAndState(Long ownerId, String state, int from, int size);
 
+    List<BookingResponseDto> findByOwnerIdAndState(Long ownerId, String state, int from, int size, Fields fields);
+
     Booking findLastBookingByItemId(Long itemId);
 
     Booking findNextBookingByItemId(Long itemId);
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
@@ -13,9 +14,11 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.model.RequestBookingState;
 import ru.practicum.shareit.booking.repo.BookingRepository;
+import ru.practicum.shareit.common.ETags;
+import ru.practicum.shareit.common.Fields;
+import ru.practicum.shareit.item.dto.item.ItemSummary;
 import ru.practicum.shareit.item.exception.ItemNotAvailableException;
 import ru.practicum.shareit.item.exception.ItemNotFoundException;
-import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
@@ -24,16 +27,19 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.common.Variables.SORT_BY_START_DESC;
 
 @Service
+@Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
+    private static final int BOOKED_ITEMS_CACHE_SIZE = 10_000;
+
     private final BookingRepository bookingRepository;
     private final UserService userService;
     private final ItemService itemService;
     private final BookingMapper bookingMapper;
+    private final BookedItemCache bookedItems = new BookedItemCache(BOOKED_ITEMS_CACHE_SIZE);
 
     @Autowired
     public BookingServiceImpl(
@@ -48,14 +54,15 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional
     public BookingResponseDto create(BookingRequestDto bookingRequestDto, Long bookerId) {
         checkUserExists(bookerId);
 
         Booking booking = bookingMapper.toBooking(bookingRequestDto);
         booking.setBookerId(bookerId);
 
-        Item item = itemService.findById(booking.getItemId());
-        if (item.getOwner().getId().equals(bookerId)) {
+        ItemSummary item = itemService.findSummaryById(booking.getItemId());
+        if (item.getOwnerId().equals(bookerId)) {
             throw new ItemNotFoundException("Owner can't book the item he owns");
         }
 
@@ -68,6 +75,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional
     public BookingResponseDto approve(Long bookingId, Long ownerId, Boolean approved) {
         checkUserExists(ownerId);
 
@@ -77,9 +85,7 @@ public class BookingServiceImpl implements BookingService {
         }
 
         Long itemId = booking.getItemId();
-        Item item = itemService.findById(itemId);
-
-        Long storedOwnerId = item.getOwner().getId();
+        Long storedOwnerId = itemService.findSummaryById(itemId).getOwnerId();
         if (!storedOwnerId.equals(ownerId)) {
             throw new ItemNotFoundException(String.format("Item with id %d does not belong to user with id %d", itemId,
                     ownerId));
@@ -96,8 +102,13 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public BookingResponseDto findByIdAndUserId(Long bookingId, Long userId) {
+        return findByIdAndUserId(bookingId, userId, Fields.ALL);
+    }
+
+    @Override
+    public BookingResponseDto findByIdAndUserId(Long bookingId, Long userId, Fields fields) {
         Booking booking = findBookingById(bookingId);
-        BookingResponseDto bookingResponseDto = bookingMapper.toBookingResponseDto(booking);
+        BookingResponseDto bookingResponseDto = bookingMapper.toBookingResponseDto(booking, fields);
         BookingResponseDto result = null;
 
         if (booking.getBookerId().equals(userId)) {
@@ -105,8 +116,8 @@ public class BookingServiceImpl implements BookingService {
             result = bookingResponseDto;
         }
 
-        Item item = itemService.findById(booking.getItemId());
-        if (item.getOwner().getId().equals(userId)) {
+        ItemSummary item = itemService.findSummaryById(booking.getItemId());
+        if (item.getOwnerId().equals(userId)) {
             // ... or for the owner
             result = bookingResponseDto;
         }
@@ -119,6 +130,11 @@ public class BookingServiceImpl implements BookingService {
         return result;
     }
 
+    @Override
+    public String findETag(Long bookingId, Long userId) {
+        return ETags.fromFingerprint(bookingRepository.findFingerprint(bookingId, userId).orElse(null));
+    }
+
     @Override
     public BookingResponseDto findById(Long bookingId) {
         Optional<Booking> optionalBooking = bookingRepository.findById(bookingId);
@@ -131,80 +147,87 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<BookingResponseDto> findByUserIdAndState(Long userId, String state, int from, int size) {
+        return findByUserIdAndState(userId, state, from, size, Fields.ALL);
+    }
+
+    @Override
+    public List<BookingResponseDto> findByUserIdAndState(Long userId, String state, int from, int size,
+                                                         Fields fields) {
         checkUserExists(userId);
 
-        List<Booking> bookingList = Collections.emptyList();
+        List<BookingResponseDto> result = Collections.emptyList();
 
         int page = from / size;
         Pageable pageable = PageRequest.of(page, size, SORT_BY_START_DESC);
 
         switch (RequestBookingState.valueOf(state)) {
             case ALL:
-                bookingList = bookingRepository.findByBookerId(userId, pageable);
+                result = bookingRepository.findDtosByBookerId(userId, pageable);
                 break;
 
             case FUTURE:
-                bookingList = bookingRepository.findByBookerIdAndStartIsAfter(userId, LocalDateTime.now(), pageable);
+                result = bookingRepository.findDtosByBookerIdInFuture(userId, LocalDateTime.now(), pageable);
                 break;
 
             case PAST:
-                bookingList = bookingRepository.findByBookerIdAndEndIsBefore(userId, LocalDateTime.now(), pageable);
+                result = bookingRepository.findDtosByBookerIdInPast(userId, LocalDateTime.now(), pageable);
                 break;
 
             case CURRENT:
-                bookingList = bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsAfter(userId, LocalDateTime.now(),
-                        LocalDateTime.now(), pageable);
+                result = bookingRepository.findDtosByBookerIdInCurrent(userId, LocalDateTime.now(), pageable);
                 break;
 
             case WAITING:
             case REJECTED:
                 BookingStatus bookingStatus = BookingStatus.valueOf(state);
-                bookingList = bookingRepository.findByBookerIdAndStatusOrderByStartDesc(userId, bookingStatus, pageable);
+                result = bookingRepository.findDtosByBookerIdAndStatus(userId, bookingStatus, pageable);
                 break;
         }
 
-        return bookingList.stream()
-                .map(bookingMapper::toBookingResponseDto)
-                .collect(Collectors.toList());
+        return result;
     }
 
     @Override
     public List<BookingResponseDto> findByOwnerIdAndState(Long ownerId, String state, int from, int size) {
-        User owner = checkUserExists(ownerId);
+        return findByOwnerIdAndState(ownerId, state, from, size, Fields.ALL);
+    }
+
+    @Override
+    public List<BookingResponseDto> findByOwnerIdAndState(Long ownerId, String state, int from, int size,
+                                                          Fields fields) {
+        checkUserExists(ownerId);
 
-        List<Booking> bookingList = Collections.emptyList();
+        List<BookingResponseDto> result = Collections.emptyList();
 
         int page = from / size;
         Pageable pageable = PageRequest.of(page, size, SORT_BY_START_DESC);
 
         switch (RequestBookingState.valueOf(state)) {
             case ALL:
-                bookingList = bookingRepository.findByOwnerId(owner, pageable);
+                result = bookingRepository.findDtosByOwnerId(ownerId, pageable);
                 break;
 
             case FUTURE:
-                bookingList = bookingRepository.findByOwnerIdInFuture(owner, pageable);
+                result = bookingRepository.findDtosByOwnerIdInFuture(ownerId, pageable);
                 break;
 
             case PAST:
-                bookingList = bookingRepository.findByOwnerIdInPast(owner, pageable);
+                result = bookingRepository.findDtosByOwnerIdInPast(ownerId, pageable);
                 break;
 
             case CURRENT:
-                bookingList = bookingRepository.findByOwnerIdInCurrent(owner, pageable);
+                result = bookingRepository.findDtosByOwnerIdInCurrent(ownerId, pageable);
                 break;
 
             case WAITING:
             case REJECTED:
                 BookingStatus bookingStatus = BookingStatus.valueOf(state);
 
-                bookingList = bookingRepository.findByOwnerIdAndStatus(owner, bookingStatus, pageable);
+                result = bookingRepository.findDtosByOwnerIdAndStatus(ownerId, bookingStatus, pageable);
                 break;
         }
 
-        return bookingList.stream()
-                .map(bookingMapper::toBookingResponseDto)
-                .collect(Collectors.toList());
+        return result;
     }
 
     @Override
@@ -219,9 +242,18 @@ public class BookingServiceImpl implements BookingService {
         return booking.orElse(null);
     }
 
+    @Override
     public Boolean hasUserBookedItem(Long userId, Long itemId) {
-        return bookingRepository.findByBookerIdAndItemIdAndEndIsBeforeAndStatusOrderById(userId, itemId, LocalDateTime.now(),
-                BookingStatus.APPROVED).size() > 0;
+        if (bookedItems.contains(userId, itemId)) {
+            return true;
+        }
+
+        boolean booked = bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndIsBefore(userId, itemId,
+                BookingStatus.APPROVED, LocalDateTime.now());
+        if (booked) {
+            bookedItems.add(userId, itemId);
+        }
+        return booked;
     }
 
     private User checkUserExists(Long userId) {
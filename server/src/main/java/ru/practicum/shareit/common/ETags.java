@@ -0,0 +1,31 @@
+package ru.practicum.shareit.common;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+public class ETags {
+    private ETags() {
+    }
+
+    /**
+     * Builds a strong ETag from a fingerprint of everything a response is built from, e.g. entity versions
+     * and ids of related rows. Returns null for a missing fingerprint, so the request is served in full.
+     */
+    public static String fromFingerprint(String fingerprint) {
+        if (fingerprint == null) {
+            return null;
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Derives the ETag of a sparse representation, which must differ from the ETag of the full one.
+     */
+    public static String withFields(String eTag, Fields fields) {
+        if (eTag == null || fields.isAll()) {
+            return eTag;
+        }
+        return fromFingerprint(eTag + "|" + fields);
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.common;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested with the {@code fields} parameter, e.g. {@code id,start,item.name,booker.id}.
+ * A nested object listed without subfields is included in full. Services use it to skip loading what
+ * the client did not ask for.
+ */
+@EqualsAndHashCode
+public class Fields {
+    public static final String PARAMETER = "fields";
+    public static final Fields ALL = new Fields(null);
+
+    private static final Fields NONE = new Fields(Collections.emptySortedSet());
+
+    private final SortedSet<String> paths;
+
+    private Fields(SortedSet<String> paths) {
+        this.paths = paths;
+    }
+
+    public static Fields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        SortedSet<String> paths = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+        return paths.isEmpty() ? ALL : new Fields(paths);
+    }
+
+    public boolean isAll() {
+        return paths == null;
+    }
+
+    public boolean includes(String field) {
+        if (paths == null || paths.contains(field)) {
+            return true;
+        }
+        String prefix = field + ".";
+        return paths.stream().anyMatch(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * Returns the fields requested inside the given nested object.
+     */
+    public Fields nested(String field) {
+        if (paths == null || paths.contains(field)) {
+            return ALL;
+        }
+        String prefix = field + ".";
+        SortedSet<String> nested = paths.stream()
+                .filter(path -> path.startsWith(prefix))
+                .map(path -> path.substring(prefix.length()))
+                .collect(Collectors.toCollection(TreeSet::new));
+        return nested.isEmpty() ? NONE : new Fields(nested);
+    }
+
+    /**
+     * Whether nothing but the id is requested, which the referencing row already holds.
+     */
+    public boolean isIdOnly() {
+        return paths != null && paths.equals(Set.of("id"));
+    }
+
+    @Override
+    public String toString() {
+        return paths == null ? "*" : String.join(",", paths);
+    }
+}
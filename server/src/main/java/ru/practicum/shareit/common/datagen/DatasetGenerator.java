@@ -0,0 +1,112 @@
+package ru.practicum.shareit.common.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a synthetic dataset into Postgres with {@code COPY} on startup. Meant to be run once against
+ * a benchmark database:
+ * {@code java -jar server-exec.jar --shareit.datagen.enabled=true --spring.main.web-application-type=none}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DatasetProperties.class)
+@ConditionalOnProperty(prefix = "shareit.datagen", name = "enabled", havingValue = "true")
+public class DatasetGenerator implements ApplicationRunner {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final List<String> TABLES = List.of("users", "item", "booking", "comment", "request",
+            "request_item");
+
+    private final DataSource dataSource;
+    private final DatasetProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            DatasetRows rows = new DatasetRows(properties, readOffsets(connection), LocalDateTime.now());
+
+            copy(connection, "users (id, name, email, email_lower)", rows::writeUsers);
+            copy(connection, "item (id, name, description, available, owner_id)", rows::writeItems);
+            copy(connection, "booking (id, item_id, booker_id, start_date, end_date, status)", rows::writeBookings);
+            copy(connection, "comment (id, item_id, user_id, text, created)", rows::writeComments);
+            copy(connection, "request (id, user_id, description, created)", rows::writeRequests);
+            copy(connection, "request_item (id, request_id, item_id)", rows::writeRequestItems);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("UPDATE item i SET comment_count = c.count FROM (SELECT item_id, COUNT(*) AS count " +
+                        "FROM comment GROUP BY item_id) c WHERE c.item_id = i.id");
+                for (String table : TABLES) {
+                    statement.execute(String.format("SELECT setval(pg_get_serial_sequence('%1$s', 'id'), " +
+                            "(SELECT MAX(id) FROM %1$s))", table));
+                }
+                connection.commit();
+                for (String table : TABLES) {
+                    statement.execute("ANALYZE " + table);
+                }
+                connection.commit();
+            }
+        }
+    }
+
+    private IdOffsets readOffsets(Connection connection) throws SQLException {
+        return IdOffsets.builder()
+                .users(maxId(connection, "users"))
+                .items(maxId(connection, "item"))
+                .bookings(maxId(connection, "booking"))
+                .comments(maxId(connection, "comment"))
+                .requests(maxId(connection, "request"))
+                .requestItems(maxId(connection, "request_item"))
+                .build();
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void copy(Connection connection, String target, RowWriter rowWriter)
+            throws SQLException, IOException {
+        long started = System.nanoTime();
+        String sql = "COPY " + target + " FROM STDIN WITH (FORMAT csv)";
+        long rows;
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE),
+                StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            rows = rowWriter.write(out);
+        }
+        log.info("Copied {} rows into {} in {} ms", rows, target.substring(0, target.indexOf(' ')),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        long write(Writer out) throws IOException;
+    }
+}
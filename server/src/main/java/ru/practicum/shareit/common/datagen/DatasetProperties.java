@@ -0,0 +1,34 @@
+package ru.practicum.shareit.common.datagen;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.datagen")
+public class DatasetProperties {
+    private boolean enabled = false;
+    private long seed = 42;
+
+    private int users = 100_000;
+    private int items = 500_000;
+    private long bookings = 10_000_000;
+    private int requests = 100_000;
+
+    /**
+     * The first {@code powerOwners} generated users own {@code powerOwnerItemShare} of all items.
+     */
+    private int powerOwners = 20;
+    private double powerOwnerItemShare = 0.3;
+
+    /**
+     * Share of finished approved bookings the booker left a comment for.
+     */
+    private double commentShare = 0.2;
+
+    /**
+     * Share of requests answered with one to three items.
+     */
+    private double answeredRequestShare = 0.5;
+}
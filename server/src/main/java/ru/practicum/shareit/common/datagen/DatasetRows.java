@@ -0,0 +1,191 @@
+package ru.practicum.shareit.common.datagen;
+
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Generates rows of all tables as CSV for {@code COPY ... FROM STDIN WITH (FORMAT csv)}.
+ * Every table has its own {@link Random} derived from the seed, so the same settings always produce the same data
+ * and comments can replay the booking sequence instead of keeping bookings in memory.
+ * Items have to be written first, bookings and comments rely on the item owners.
+ */
+public class DatasetRows {
+    private static final String[] ADJECTIVES = {"Cordless", "Folding", "Electric", "Camping", "Mountain", "Vintage",
+        "Portable", "Heavy", "Compact", "Kids"};
+    private static final String[] NOUNS = {"drill", "saw", "ladder", "tent", "bike", "kayak", "projector", "grill",
+        "sander", "stroller", "speaker", "telescope"};
+    private static final String[] CONDITIONS = {"in good condition", "like new", "with a spare battery",
+        "slightly used", "with a carrying case"};
+
+    private static final int BOOKING_WINDOW_DAYS = 820;
+    private static final int BOOKING_HISTORY_DAYS = 730;
+
+    private final DatasetProperties properties;
+    private final IdOffsets offsets;
+    private final LocalDateTime now;
+    private final int[] itemOwners;
+
+    public DatasetRows(DatasetProperties properties, IdOffsets offsets, LocalDateTime now) {
+        if (properties.getUsers() < 2 || properties.getItems() < 1) {
+            throw new IllegalArgumentException("At least two users and one item are required");
+        }
+        this.properties = properties;
+        this.offsets = offsets;
+        this.now = now.withNano(0);
+        this.itemOwners = new int[properties.getItems()];
+    }
+
+    public long writeUsers(Writer out) throws IOException {
+        for (int i = 0; i < properties.getUsers(); i++) {
+            long id = userId(i);
+            String email = "user" + id + "@datagen.test";
+            row(out, id, "User " + id, email, email);
+        }
+        return properties.getUsers();
+    }
+
+    public long writeItems(Writer out) throws IOException {
+        Random random = random(Table.ITEM);
+        int powerOwners = Math.min(properties.getPowerOwners(), properties.getUsers());
+
+        for (int i = 0; i < properties.getItems(); i++) {
+            boolean powerOwned = powerOwners > 0 && random.nextDouble() < properties.getPowerOwnerItemShare();
+            itemOwners[i] = powerOwned ? random.nextInt(powerOwners) : random.nextInt(properties.getUsers());
+            String name = pick(ADJECTIVES, random) + " " + pick(NOUNS, random);
+            row(out, itemId(i), name, name.toLowerCase() + " " + pick(CONDITIONS, random),
+                    random.nextInt(10) != 0, userId(itemOwners[i]));
+        }
+        return properties.getItems();
+    }
+
+    public long writeBookings(Writer out) throws IOException {
+        Random random = random(Table.BOOKING);
+        BookingRow booking = new BookingRow();
+
+        for (long i = 0; i < properties.getBookings(); i++) {
+            nextBooking(random, booking);
+            row(out, offsets.getBookings() + i + 1, itemId(booking.item), userId(booking.booker),
+                    booking.start, booking.end, booking.status);
+        }
+        return properties.getBookings();
+    }
+
+    /**
+     * Replays the bookings to comment only finished approved ones.
+     */
+    public long writeComments(Writer out) throws IOException {
+        Random bookings = random(Table.BOOKING);
+        Random random = random(Table.COMMENT);
+        BookingRow booking = new BookingRow();
+        long count = 0;
+
+        for (long i = 0; i < properties.getBookings(); i++) {
+            nextBooking(bookings, booking);
+            if (booking.status != BookingStatus.APPROVED || !booking.end.isBefore(now)
+                    || random.nextDouble() >= properties.getCommentShare()) {
+                continue;
+            }
+            count++;
+            row(out, offsets.getComments() + count, itemId(booking.item), userId(booking.booker),
+                    pick(CONDITIONS, random) + " and easy to pick up", booking.end.plusHours(random.nextInt(72)));
+        }
+        return count;
+    }
+
+    public long writeRequests(Writer out) throws IOException {
+        Random random = random(Table.REQUEST);
+
+        for (int i = 0; i < properties.getRequests(); i++) {
+            row(out, offsets.getRequests() + i + 1, userId(random.nextInt(properties.getUsers())),
+                    "Looking for a " + pick(ADJECTIVES, random).toLowerCase() + " " + pick(NOUNS, random),
+                    now.minusMinutes(random.nextInt(BOOKING_HISTORY_DAYS * 24 * 60)));
+        }
+        return properties.getRequests();
+    }
+
+    public long writeRequestItems(Writer out) throws IOException {
+        Random random = random(Table.REQUEST_ITEM);
+        long count = 0;
+
+        for (int i = 0; i < properties.getRequests(); i++) {
+            if (random.nextDouble() >= properties.getAnsweredRequestShare()) {
+                continue;
+            }
+            int answers = 1 + random.nextInt(3);
+            for (int j = 0; j < answers; j++) {
+                count++;
+                row(out, offsets.getRequestItems() + count, offsets.getRequests() + i + 1,
+                        itemId(random.nextInt(properties.getItems())));
+            }
+        }
+        return count;
+    }
+
+    private void nextBooking(Random random, BookingRow booking) {
+        booking.item = random.nextInt(properties.getItems());
+        booking.booker = random.nextInt(properties.getUsers());
+        if (booking.booker == itemOwners[booking.item]) {
+            booking.booker = (booking.booker + 1) % properties.getUsers();
+        }
+        booking.start = now.minusDays(BOOKING_HISTORY_DAYS)
+                .plusMinutes(random.nextInt(BOOKING_WINDOW_DAYS * 24 * 60));
+        booking.end = booking.start.plusHours(1 + random.nextInt(14 * 24));
+
+        int outcome = random.nextInt(100);
+        if (booking.start.isAfter(now)) {
+            booking.status = outcome < 50 ? BookingStatus.WAITING
+                    : outcome < 90 ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        } else {
+            booking.status = outcome < 85 ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        }
+    }
+
+    private long userId(int index) {
+        return offsets.getUsers() + index + 1;
+    }
+
+    private long itemId(int index) {
+        return offsets.getItems() + index + 1;
+    }
+
+    private Random random(Table table) {
+        return new Random(properties.getSeed() * 31 + table.ordinal());
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Generated text never contains commas, quotes or line breaks, so values don't need CSV quoting.
+     */
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(String.valueOf(values[i]));
+        }
+        out.write('\n');
+    }
+
+    private enum Table {
+        ITEM,
+        BOOKING,
+        COMMENT,
+        REQUEST,
+        REQUEST_ITEM
+    }
+
+    private static class BookingRow {
+        private int item;
+        private int booker;
+        private LocalDateTime start;
+        private LocalDateTime end;
+        private BookingStatus status;
+    }
+}
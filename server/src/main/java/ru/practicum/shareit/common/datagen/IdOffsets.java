@@ -0,0 +1,18 @@
+package ru.practicum.shareit.common.datagen;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Largest existing id per table. Generated ids start right after them, so data can be appended.
+ */
+@Value
+@Builder
+public class IdOffsets {
+    long users;
+    long items;
+    long bookings;
+    long comments;
+    long requests;
+    long requestItems;
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens {@code minimumIdle} connections of every Hikari pool before the application is marked as ready,
+ * so the first requests don't pay for TCP/TLS handshakes and authentication.
+ * Application runners complete before the readiness state switches to ACCEPTING_TRAFFIC.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "shareit.datasource.warm-up", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConnectionPoolWarmUp implements ApplicationRunner {
+    private final ObjectProvider<HikariDataSource> dataSources;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        dataSources.orderedStream().forEach(this::warmUp);
+    }
+
+    private void warmUp(HikariDataSource dataSource) {
+        int size = dataSource.getMinimumIdle();
+        List<Connection> connections = new ArrayList<>(size);
+
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+            log.info("Pool {} warmed up with {} connections", dataSource.getPoolName(), connections.size());
+        } catch (SQLException e) {
+            log.warn("Pool {} warmed up only with {} connections: {}", dataSource.getPoolName(), connections.size(),
+                    e.getMessage());
+        } finally {
+            connections.forEach(ConnectionPoolWarmUp::closeQuietly);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Failed to return connection to the pool: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures the replica lag. While the lag exceeds the configured maximum
+ * (or the replica is unreachable) read-only transactions are routed to the primary.
+ */
+@Slf4j
+public class ReplicaLagGuard implements InitializingBean, DisposableBean {
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagGuard(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.replicaUsable = isLagCheckDisabled();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public void check() {
+        if (isLagCheckDisabled()) {
+            replicaUsable = true;
+            return;
+        }
+
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+            usable = lagSeconds * 1000 <= maxLag.toMillis();
+            if (!usable) {
+                log.warn("Replica lag {}s exceeds {}, routing reads to primary", lagSeconds, maxLag);
+            }
+        } catch (SQLException e) {
+            log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            usable = false;
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("Replica caught up, routing read-only transactions to replica");
+        }
+        replicaUsable = usable;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        check();
+        if (isLagCheckDisabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-guard");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private boolean isLagCheckDisabled() {
+        return lagQuery == null || lagQuery.isBlank();
+    }
+}
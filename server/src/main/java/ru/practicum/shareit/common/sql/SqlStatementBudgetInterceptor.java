@@ -0,0 +1,69 @@
+package ru.practicum.shareit.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the number of SQL statements of every request as {@code shareit.sql.statements} and the time spent
+ * executing them as {@code shareit.sql.time}, both tagged with the URI template, and logs a warning when
+ * a request exceeds the configured statement budget.
+ */
+@Slf4j
+public class SqlStatementBudgetInterceptor implements HandlerInterceptor {
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatementBudgetInterceptor(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SqlStatementCounter.Result result = SqlStatementCounter.stop();
+        if (result == null) {
+            return;
+        }
+
+        String uri = getUriTemplate(request);
+        DistributionSummary.builder("shareit.sql.statements")
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(result.getStatements());
+        Timer.builder("shareit.sql.time")
+                .description("Time spent executing SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(result.getSqlNanos(), TimeUnit.NANOSECONDS);
+
+        if (result.getStatements() > statementBudget) {
+            log.warn("{} {} executed {} SQL statements taking {} ms, budget is {}", request.getMethod(), uri,
+                    result.getStatements(), TimeUnit.NANOSECONDS.toMillis(result.getSqlNanos()),
+                    statementBudget);
+        }
+    }
+
+    private static String getUriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
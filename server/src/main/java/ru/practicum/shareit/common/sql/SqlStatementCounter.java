@@ -0,0 +1,82 @@
+package ru.practicum.shareit.common.sql;
+
+/**
+ * Counts SQL statements prepared by Hibernate on the current thread between {@link #start()} and {@link #stop()}
+ * and sums up the time their executions take. Statements executed outside of a started scope (schema
+ * initialization, background jobs) are not counted.
+ */
+public class SqlStatementCounter {
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        SCOPE.set(new Scope());
+    }
+
+    public static void increment() {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.statements++;
+        }
+    }
+
+    public static void executionStarted() {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.executionStartNanos = System.nanoTime();
+        }
+    }
+
+    public static void executionEnded() {
+        Scope scope = SCOPE.get();
+        if (scope != null && scope.executionStartNanos != 0) {
+            scope.sqlNanos += System.nanoTime() - scope.executionStartNanos;
+            scope.executionStartNanos = 0;
+        }
+    }
+
+    public static int current() {
+        Scope scope = SCOPE.get();
+        return scope == null ? 0 : scope.statements;
+    }
+
+    /**
+     * Closes the scope of the current thread.
+     *
+     * @return statement count and time spent executing them, or {@code null} if the scope was not started
+     */
+    public static Result stop() {
+        Scope scope = SCOPE.get();
+        SCOPE.remove();
+        if (scope == null) {
+            return null;
+        }
+        return new Result(scope.statements, scope.sqlNanos);
+    }
+
+    private static class Scope {
+        private int statements;
+        private long sqlNanos;
+        private long executionStartNanos;
+    }
+
+    public static class Result {
+        private final int statements;
+        private final long sqlNanos;
+
+        public Result(int statements, long sqlNanos) {
+            this.statements = statements;
+            this.sqlNanos = sqlNanos;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getSqlNanos() {
+            return sqlNanos;
+        }
+    }
+}
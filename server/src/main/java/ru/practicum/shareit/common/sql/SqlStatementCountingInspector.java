@@ -0,0 +1,11 @@
+package ru.practicum.shareit.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementCountingInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.increment();
+        return sql;
+    }
+}
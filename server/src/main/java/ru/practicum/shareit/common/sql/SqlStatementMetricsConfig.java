@@ -0,0 +1,44 @@
+package ru.practicum.shareit.common.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class SqlStatementMetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final long slowQueryMillis;
+
+    public SqlStatementMetricsConfig(MeterRegistry meterRegistry,
+                                     @Value("${shareit.sql.statement-budget:10}") int statementBudget,
+                                     @Value("${shareit.sql.slow-query-ms:200}") long slowQueryMillis) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.slowQueryMillis = slowQueryMillis;
+    }
+
+    /**
+     * Counts and times the statements of every session, and has Hibernate log each query slower than
+     * {@code shareit.sql.slow-query-ms} with its SQL to the {@code org.hibernate.SQL_SLOW} logger.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectorCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    SqlStatementTimingListener.class.getName());
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryMillis);
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementBudgetInterceptor(meterRegistry, statementBudget));
+    }
+}
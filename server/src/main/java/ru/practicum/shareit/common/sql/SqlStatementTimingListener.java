@@ -0,0 +1,29 @@
+package ru.practicum.shareit.common.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Times the JDBC executions of a Hibernate session for {@link SqlStatementCounter}. Hibernate creates one per
+ * session, so it keeps no state of its own.
+ */
+public class SqlStatementTimingListener extends BaseSessionEventListener {
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStatementCounter.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        SqlStatementCounter.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementCounter.executionEnded();
+    }
+}
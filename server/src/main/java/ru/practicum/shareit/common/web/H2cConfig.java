@@ -0,0 +1,32 @@
+package ru.practicum.shareit.common.web;
+
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Accepts HTTP/2 over cleartext on the regular connector, both as an upgrade from HTTP/1.1 and with prior
+ * knowledge, so the gateway can multiplex its requests over a few connections. HTTP/1.1 clients are unaffected.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.server.h2c", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class H2cConfig {
+    /**
+     * Tomcat lets only 20 streams of a connection execute at once by default, which would queue the requests
+     * of a gateway that sends everything over one connection.
+     */
+    @Bean
+    public TomcatConnectorCustomizer h2cConnectorCustomizer(
+            @Value("${shareit.server.h2c.max-concurrent-streams:200}") int maxConcurrentStreams,
+            @Value("${shareit.server.h2c.max-concurrent-stream-execution:200}") int maxConcurrentStreamExecution) {
+        return connector -> {
+            Http2Protocol http2Protocol = new Http2Protocol();
+            http2Protocol.setMaxConcurrentStreams(maxConcurrentStreams);
+            http2Protocol.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+            connector.addUpgradeProtocol(http2Protocol);
+        };
+    }
+}
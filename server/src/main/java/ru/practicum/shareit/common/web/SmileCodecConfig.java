@@ -0,0 +1,23 @@
+package ru.practicum.shareit.common.web;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Lets the gateway exchange Smile, the binary form of JSON, with the controllers by sending
+ * {@code application/x-jackson-smile} in Accept and Content-Type. Other clients keep getting JSON.
+ */
+@Configuration
+public class SmileCodecConfig {
+    /**
+     * Built from the Boot-configured builder, so dates and other settings come out as in JSON. Replaces the
+     * default Smile converter at its place after the JSON one, so JSON stays the answer to {@code Accept: *}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.common.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import ru.practicum.shareit.common.Fields;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Drops the properties a client left out of the {@code fields} parameter from the response. Applies only to
+ * handler methods declaring that parameter, so error bodies are never trimmed.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && returnType.getMethod() != null
+                && Arrays.stream(returnType.getMethod().getParameters())
+                .map(parameter -> parameter.getAnnotation(RequestParam.class))
+                .anyMatch(annotation -> annotation != null && Fields.PARAMETER.equals(annotation.name()));
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        Fields fields = Fields.parse(((ServletServerHttpRequest) request).getServletRequest()
+                .getParameter(Fields.PARAMETER));
+        if (fields.isAll()) {
+            return body;
+        }
+
+        JsonNode tree = objectMapper.valueToTree(body);
+        prune(tree, fields);
+        return tree;
+    }
+
+    private static void prune(JsonNode node, Fields fields) {
+        if (node.isArray()) {
+            node.forEach(element -> prune(element, fields));
+        } else if (node.isObject() && !fields.isAll()) {
+            Iterator<String> names = node.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (fields.includes(name)) {
+                    prune(node.get(name), fields.nested(name));
+                } else {
+                    names.remove();
+                }
+            }
+        }
+    }
+}
@@ -11,6 +11,10 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.common.ETags;
+import ru.practicum.shareit.common.Fields;
+import ru.practicum.shareit.item.dto.comment.CommentPageDto;
 import ru.practicum.shareit.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 import ru.practicum.shareit.item.dto.item.ItemMapper;
@@ -21,6 +25,7 @@ import ru.practicum.shareit.item.service.ItemService;
 
 import java.util.List;
 
+import static ru.practicum.shareit.common.Fields.PARAMETER;
 import static ru.practicum.shareit.common.Variables.USER_HEADER;
 
 @RestController
@@ -46,15 +51,22 @@ public class ItemController {
 
     @GetMapping
     public List<ItemWithBookingsDto> findByOwnerId(
-            @RequestHeader(USER_HEADER) Long userId) {
-        return itemService.findByOwnerId(userId);
+            @RequestHeader(USER_HEADER) Long userId,
+            @RequestParam(name = PARAMETER, required = false) String fields) {
+        return itemService.findByOwnerId(userId, Fields.parse(fields));
     }
 
     @GetMapping("/{itemId}")
     public ItemWithBookingsDto findById(
             @PathVariable Long itemId,
-            @RequestHeader(USER_HEADER) Long userId) {
-        return itemService.findByIdWithBookings(itemId, userId);
+            @RequestHeader(USER_HEADER) Long userId,
+            @RequestParam(name = PARAMETER, required = false) String fields,
+            WebRequest request) {
+        Fields fieldset = Fields.parse(fields);
+        if (request.checkNotModified(ETags.withFields(itemService.findETag(itemId, userId), fieldset))) {
+            return null;
+        }
+        return itemService.findByIdWithBookings(itemId, userId, fieldset);
     }
 
     @GetMapping("/search")
@@ -69,6 +81,14 @@ public class ItemController {
         itemService.delete(itemId, userId);
     }
 
+    @GetMapping("/{itemId}/comments")
+    public CommentPageDto findComments(
+            @PathVariable Long itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return itemService.findComments(itemId, cursor, size);
+    }
+
     @PostMapping("/{itemId}/comment")
     public CommentResponseDto addComment(
             @RequestHeader(USER_HEADER) Long userId,
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.dto.comment;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CommentPageDto {
+    private final List<CommentResponseDto> comments;
+    private final String nextCursor;
+}
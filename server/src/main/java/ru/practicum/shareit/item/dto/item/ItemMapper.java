@@ -44,6 +44,7 @@ public class ItemMapper {
                 .name(item.getName())
                 .description(item.getDescription())
                 .available(item.getAvailable())
+                .commentCount(item.getCommentCount())
                 .build();
 
         if (item.getComments() != null) {
@@ -52,13 +53,17 @@ public class ItemMapper {
                     .collect(Collectors.toList()));
         }
 
+        setBookings(result, lastBooking, nextBooking);
+
+        return result;
+    }
+
+    public static void setBookings(ItemWithBookingsDto itemWithBookingsDto, Booking lastBooking, Booking nextBooking) {
         if (lastBooking != null) {
-            result.setLastBooking(new BookingInfo(lastBooking.getId(), lastBooking.getBookerId()));
+            itemWithBookingsDto.setLastBooking(new BookingInfo(lastBooking.getId(), lastBooking.getBookerId()));
         }
         if (nextBooking != null) {
-            result.setNextBooking(new BookingInfo(nextBooking.getId(), nextBooking.getBookerId()));
+            itemWithBookingsDto.setNextBooking(new BookingInfo(nextBooking.getId(), nextBooking.getBookerId()));
         }
-
-        return result;
     }
 }
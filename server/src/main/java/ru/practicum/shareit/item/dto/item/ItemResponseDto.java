@@ -1,15 +1,18 @@
 package ru.practicum.shareit.item.dto.item;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class ItemResponseDto {
     private Long id;
     private String name;
@@ -17,4 +20,17 @@ public class ItemResponseDto {
     private Boolean available;
     private List<CommentResponseDto> comments;
     private Long requestId;
+
+    /**
+     * Used by {@link ru.practicum.shareit.request.repo.RequestRepository#findItemDtosByRequestIds} for the items
+     * answering a page of requests.
+     */
+    public ItemResponseDto(Long id, String name, String description, Boolean available, Long requestId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.comments = new ArrayList<>();
+        this.requestId = requestId;
+    }
 }
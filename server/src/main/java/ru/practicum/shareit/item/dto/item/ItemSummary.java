@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * What bookings need to know about an item: who owns it and whether it can be booked. Read with a single
+ * select of three columns, without the owner entity or the comments.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ItemSummary {
+    private final Long id;
+    private final Long ownerId;
+    private final Boolean available;
+}
@@ -1,15 +1,18 @@
 package ru.practicum.shareit.item.dto.item;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class ItemWithBookingsDto {
     private Long id;
     private String name;
@@ -17,5 +20,18 @@ public class ItemWithBookingsDto {
     private Boolean available;
     private BookingInfo lastBooking;
     private BookingInfo nextBooking;
+    private Integer commentCount;
     private List<CommentResponseDto> comments;
+
+    /**
+     * Used by {@link ru.practicum.shareit.item.repo.ItemRepository#findDtosByOwnerId}; bookings are added afterwards.
+     */
+    public ItemWithBookingsDto(Long id, String name, String description, Boolean available, Integer commentCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.commentCount = commentCount;
+        this.comments = new ArrayList<>();
+    }
 }
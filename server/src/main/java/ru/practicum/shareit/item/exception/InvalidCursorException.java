@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Slf4j
+public class InvalidCursorException extends ResponseStatusException {
+    public InvalidCursorException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+        log.warn(message);
+    }
+}
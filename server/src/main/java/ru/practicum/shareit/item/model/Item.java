@@ -7,13 +7,17 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,6 +27,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(name = "Item.withOwner", attributeNodes = @NamedAttributeNode("owner"))
 public class Item {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,9 +39,19 @@ public class Item {
 
     private Boolean available;
 
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER)
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY)
     private User owner;
 
+    @Version
+    private long version;
+
+    /**
+     * Maintained by {@link ru.practicum.shareit.item.repo.ItemRepository#incrementCommentCount} only, so saving
+     * the item never overwrites a concurrent increment.
+     */
+    @Column(insertable = false, updatable = false)
+    private int commentCount;
+
     @Transient
     private List<Comment> comments = new ArrayList<>();
 
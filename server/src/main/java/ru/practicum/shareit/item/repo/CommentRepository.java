@@ -1,10 +1,36 @@
 package ru.practicum.shareit.item.repo;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByItemId(Long itemId);
+    String SELECT_RESPONSE_DTO = "SELECT new ru.practicum.shareit.item.dto.comment.CommentResponseDto(c.id, c.text, " +
+            "u.name, c.created) FROM Comment c JOIN c.user u WHERE c.item.id = :itemId ";
+    String NEWEST_FIRST = " ORDER BY c.created DESC, c.id DESC";
+
+    /**
+     * Latest comments of the item, newest first, the way they are shown with the item.
+     */
+    @EntityGraph("Comment.withAuthor")
+    List<Comment> findByItemIdOrderByCreatedDescIdDesc(Long itemId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + NEWEST_FIRST)
+    List<CommentResponseDto> findDtosByItemId(@Param("itemId") Long itemId, Pageable pageable);
+
+    /**
+     * Keyset page of the comments following {@code (created, id)}, served by the {@code (item_id, created, id)}
+     * index however deep the page is.
+     */
+    @Query(SELECT_RESPONSE_DTO + "AND (c.created < :created OR (c.created = :created AND c.id < :id))" + NEWEST_FIRST)
+    List<CommentResponseDto> findDtosByItemIdAfter(@Param("itemId") Long itemId,
+                                                   @Param("created") LocalDateTime created, @Param("id") Long id,
+                                                   Pageable pageable);
 }
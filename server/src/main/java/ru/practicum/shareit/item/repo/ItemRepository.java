@@ -1,21 +1,60 @@
 package ru.practicum.shareit.item.repo;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.item.ItemSummary;
+import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.List;
+import java.util.Optional;
 
 @Transactional
 public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByOwnerId(Long ownerId);
 
+    @EntityGraph("Item.withOwner")
+    Optional<Item> findWithOwnerById(Long itemId);
+
+    @Query("SELECT new ru.practicum.shareit.item.dto.item.ItemSummary(i.id, i.owner.id, i.available) " +
+            "FROM Item i WHERE i.id = :itemId")
+    Optional<ItemSummary> findSummaryById(@Param("itemId") Long itemId);
+
+    @Query("SELECT new ru.practicum.shareit.item.dto.item.ItemWithBookingsDto(i.id, i.name, i.description, " +
+            "i.available, i.commentCount) FROM Item i WHERE i.owner.id = :ownerId ORDER BY i.id")
+    List<ItemWithBookingsDto> findDtosByOwnerId(@Param("ownerId") Long ownerId);
+
     @Query("SELECT i FROM Item i WHERE LOWER(CONCAT(i.name, i.description)) LIKE %:searchText% AND i.available = true")
     List<Item> searchByNameOrDescriptionIgnoreCaseAndAvailable(@Param("searchText") String searchText);
 
+    /**
+     * Fingerprint of {@code GET /items/{itemId}}: the item version, its comment count, the latest comments shown
+     * with the item and their authors' versions, and for the owner the current last and next bookings. The latest
+     * comments are read from the {@code (item_id, created, id)} index, so the cost doesn't grow with the comments.
+     *
+     * @param latestComments number of latest comments shown with the item, so the fingerprint covers exactly them
+     */
+    @Query(value = "SELECT CONCAT(i.id, ':', i.version, ':', i.comment_count, ':', " +
+            "(SELECT CONCAT(MAX(c.id), ':', SUM(u.version)) FROM comment c JOIN users u ON u.id = c.user_id " +
+            "WHERE c.id IN (SELECT lc.id FROM comment lc WHERE lc.item_id = i.id " +
+            "ORDER BY lc.created DESC, lc.id DESC LIMIT :latestComments)), ':', " +
+            "CASE WHEN i.owner_id = :userId THEN CONCAT(" +
+            "(SELECT b.id FROM booking b WHERE b.item_id = i.id AND b.start_date < CURRENT_TIMESTAMP AND " +
+            "b.status = 'APPROVED' ORDER BY b.start_date DESC LIMIT 1), ':', " +
+            "(SELECT b.id FROM booking b WHERE b.item_id = i.id AND b.start_date > CURRENT_TIMESTAMP AND " +
+            "b.status = 'APPROVED' ORDER BY b.start_date LIMIT 1)) END) " +
+            "FROM item i WHERE i.id = :itemId", nativeQuery = true)
+    Optional<String> findFingerprint(@Param("itemId") Long itemId, @Param("userId") Long userId,
+                                     @Param("latestComments") int latestComments);
+
+    @Modifying
+    @Query("UPDATE Item i SET i.commentCount = i.commentCount + 1 WHERE i.id = :itemId")
+    void incrementCommentCount(@Param("itemId") Long itemId);
+
     @Modifying
     @Query(value = "INSERT INTO request_item (item_id, request_id) VALUES (:itemId, :requestId)", nativeQuery = true)
     void saveItemBoundWithRequest(@Param("itemId") Long itemId, @Param("requestId") Long requestId);
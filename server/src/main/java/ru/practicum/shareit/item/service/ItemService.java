@@ -1,8 +1,11 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.common.Fields;
+import ru.practicum.shareit.item.dto.comment.CommentPageDto;
 import ru.practicum.shareit.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 import ru.practicum.shareit.item.dto.item.ItemResponseDto;
+import ru.practicum.shareit.item.dto.item.ItemSummary;
 import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
 import ru.practicum.shareit.item.model.Item;
 
@@ -15,12 +18,30 @@ public interface ItemService {
 
     Item findById(Long itemId);
 
+    Item findById(Long itemId, boolean withComments);
+
+    /**
+     * Id, owner id and availability of the item, for checks that don't need the rest of it.
+     */
+    ItemSummary findSummaryById(Long itemId);
+
     CommentResponseDto addComment(Long userId, Long itemId, CommentRequestDto comment);
 
+    /**
+     * Page of the item comments, newest first, following the given cursor or from the newest one without it.
+     */
+    CommentPageDto findComments(Long itemId, String cursor, int size);
+
     ItemWithBookingsDto findByIdWithBookings(Long itemId, Long userId);
 
+    ItemWithBookingsDto findByIdWithBookings(Long itemId, Long userId, Fields fields);
+
+    String findETag(Long itemId, Long userId);
+
     List<ItemWithBookingsDto> findByOwnerId(Long ownerId);
 
+    List<ItemWithBookingsDto> findByOwnerId(Long ownerId, Fields fields);
+
     List<ItemResponseDto> search(String text);
 
     void delete(Long itemId, Long ownerId);
@@ -1,13 +1,22 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.common.ETags;
+import ru.practicum.shareit.common.Fields;
+import ru.practicum.shareit.item.dto.comment.CommentCursor;
 import ru.practicum.shareit.item.dto.comment.CommentMapper;
+import ru.practicum.shareit.item.dto.comment.CommentPageDto;
 import ru.practicum.shareit.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 import ru.practicum.shareit.item.dto.item.ItemMapper;
 import ru.practicum.shareit.item.dto.item.ItemResponseDto;
+import ru.practicum.shareit.item.dto.item.ItemSummary;
 import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
 import ru.practicum.shareit.item.exception.IllegalCommentException;
 import ru.practicum.shareit.item.exception.ItemNotFoundException;
@@ -21,7 +30,6 @@ import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,13 +37,20 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
+    /**
+     * Comments shown with the item itself, the rest are paged through {@link #findComments}.
+     */
+    private static final int LATEST_COMMENTS = 10;
+
     private final UserService userService;
     private final BookingService bookingService;
     private final ItemRepository itemRepository;
     private final CommentRepository commentRepository;
 
     @Override
+    @Transactional
     public ItemResponseDto create(Item item, Long ownerId) {
         User owner = userService.findUserById(ownerId);
         item.setOwner(owner);
@@ -50,6 +65,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional
     public ItemResponseDto update(Item item, Long itemId, Long ownerId) {
         Item storedItem = getStoredItemAndCheckOwner(itemId, ownerId);
 
@@ -72,17 +88,31 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public Item findById(Long itemId) {
-        return getItemByIdOrThrowException(itemId);
+        return findById(itemId, true);
+    }
+
+    @Override
+    public Item findById(Long itemId, boolean withComments) {
+        return getItemByIdOrThrowException(itemId, withComments);
+    }
+
+    @Override
+    public ItemSummary findSummaryById(Long itemId) {
+        return itemRepository.findSummaryById(itemId)
+                .orElseThrow(() -> new ItemNotFoundException(String.format("Item with id %d not found", itemId)));
     }
 
     @Override
     public List<ItemWithBookingsDto> findByOwnerId(Long ownerId) {
-        List<ItemWithBookingsDto> result;
+        return findByOwnerId(ownerId, Fields.ALL);
+    }
 
-        result = itemRepository.findByOwnerId(ownerId).stream()
-                .sorted(Comparator.comparingLong(Item::getId))
-                .map(this::addBookingsToItem)
-                .collect(Collectors.toList());
+    @Override
+    public List<ItemWithBookingsDto> findByOwnerId(Long ownerId, Fields fields) {
+        List<ItemWithBookingsDto> result = itemRepository.findDtosByOwnerId(ownerId);
+
+        result.forEach(item -> ItemMapper.setBookings(item, findLastBooking(item.getId(), fields),
+                findNextBooking(item.getId(), fields)));
 
         return result;
     }
@@ -101,6 +131,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional
     public void delete(Long itemId, Long ownerId) {
         Item storedItem = getStoredItemAndCheckOwner(itemId, ownerId);
 
@@ -109,12 +140,17 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public ItemWithBookingsDto findByIdWithBookings(Long itemId, Long userId) {
-        Item item = getItemByIdOrThrowException(itemId);
+        return findByIdWithBookings(itemId, userId, Fields.ALL);
+    }
+
+    @Override
+    public ItemWithBookingsDto findByIdWithBookings(Long itemId, Long userId, Fields fields) {
+        Item item = getItemByIdOrThrowException(itemId, fields.includes("comments"));
         ItemWithBookingsDto result;
 
         if (item.getOwner().getId().equals(userId)) {
             // add booking information for the owner
-            result = addBookingsToItem(item);
+            result = addBookingsToItem(item, fields);
         } else {
             // don't add booking information for others
             result = ItemMapper.toItemWithBookingsDto(item, null, null);
@@ -123,9 +159,16 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    public String findETag(Long itemId, Long userId) {
+        return ETags.fromFingerprint(itemRepository.findFingerprint(itemId, userId, LATEST_COMMENTS)
+                .orElse(null));
+    }
+
+    @Override
+    @Transactional
     public CommentResponseDto addComment(Long userId, Long itemId, CommentRequestDto commentRequestDto) {
         User user = userService.findUserById(userId);
-        Item item = getItemByIdOrThrowException(itemId);
+        Item item = getItemByIdOrThrowException(itemId, false);
 
         if (!bookingService.hasUserBookedItem(userId, itemId)) {
             throw new IllegalCommentException(String.format("User with id %d has never booked item with id %d ",
@@ -137,17 +180,50 @@ public class ItemServiceImpl implements ItemService {
         comment.setItem(item);
         comment.setCreated(LocalDateTime.now());
 
-        return CommentMapper.toCommentResponseDto(commentRepository.save(comment));
+        Comment savedComment = commentRepository.save(comment);
+        itemRepository.incrementCommentCount(itemId);
+
+        return CommentMapper.toCommentResponseDto(savedComment);
     }
 
-    private Item getItemByIdOrThrowException(Long itemId) {
+    @Override
+    public CommentPageDto findComments(Long itemId, String cursor, int size) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new ItemNotFoundException(String.format("Item with id %d not found", itemId));
+        }
+
+        // One extra row tells whether there is a next page
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<CommentResponseDto> comments;
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findDtosByItemId(itemId, pageable);
+        } else {
+            CommentCursor after = CommentCursor.decode(cursor);
+            comments = commentRepository.findDtosByItemIdAfter(itemId, after.getCreated(), after.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            nextCursor = CommentCursor.after(comments.get(size - 1)).encode();
+        }
+
+        return CommentPageDto.builder()
+                .comments(comments)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private Item getItemByIdOrThrowException(Long itemId, boolean withComments) {
         Optional<Item> optionalItem = itemRepository.findById(itemId);
 
         if (optionalItem.isPresent()) {
             Item item = optionalItem.get();
 
-            List<Comment> comments = commentRepository.findByItemId(itemId);
-            item.setComments(comments);
+            if (withComments) {
+                item.setComments(commentRepository.findByItemIdOrderByCreatedDescIdDesc(itemId,
+                        PageRequest.of(0, LATEST_COMMENTS)));
+            }
             return item;
         } else {
             throw new ItemNotFoundException(String.format("Item with id %d not found", itemId));
@@ -155,7 +231,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     private Item getStoredItemAndCheckOwner(Long itemId, Long ownerId) {
-        Optional<Item> optionalItem = itemRepository.findById(itemId);
+        Optional<Item> optionalItem = itemRepository.findWithOwnerById(itemId);
 
         if (optionalItem.isEmpty()) {
             throw new ItemNotFoundException(String.format("Item with id %s not found", itemId));
@@ -171,8 +247,16 @@ public class ItemServiceImpl implements ItemService {
         return storedItem;
     }
 
-    private ItemWithBookingsDto addBookingsToItem(Item item) {
-        return ItemMapper.toItemWithBookingsDto(item, bookingService.findLastBookingByItemId(item.getId()),
-                bookingService.findNextBookingByItemId(item.getId()));
+    private ItemWithBookingsDto addBookingsToItem(Item item, Fields fields) {
+        return ItemMapper.toItemWithBookingsDto(item, findLastBooking(item.getId(), fields),
+                findNextBooking(item.getId(), fields));
+    }
+
+    private Booking findLastBooking(Long itemId, Fields fields) {
+        return fields.includes("lastBooking") ? bookingService.findLastBookingByItemId(itemId) : null;
+    }
+
+    private Booking findNextBooking(Long itemId, Fields fields) {
+        return fields.includes("nextBooking") ? bookingService.findNextBookingByItemId(itemId) : null;
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.request.dto.RequestRequestDto;
 import ru.practicum.shareit.request.dto.RequestResponseDto;
 import ru.practicum.shareit.request.service.RequestService;
@@ -50,8 +51,11 @@ public class RequestController {
     @GetMapping("/{requestId}")
     public RequestResponseDto findById(
             @RequestHeader(USER_HEADER) Long userId,
-            @PathVariable Long requestId) {
-
+            @PathVariable Long requestId,
+            WebRequest request) {
+        if (request.checkNotModified(requestService.findETag(requestId, userId))) {
+            return null;
+        }
         return requestService.findById(requestId, userId);
     }
 }
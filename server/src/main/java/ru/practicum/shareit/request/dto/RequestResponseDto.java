@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,9 +12,20 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class RequestResponseDto {
     private Long id;
     private String description;
     private LocalDateTime created;
     private List<ItemResponseDto> items;
+
+    /**
+     * Used by {@link ru.practicum.shareit.request.repo.RequestRepository#findDtosByUserIdNot}; items are added
+     * afterwards.
+     */
+    public RequestResponseDto(Long id, String description, LocalDateTime created) {
+        this.id = id;
+        this.description = description;
+        this.created = created;
+    }
 }
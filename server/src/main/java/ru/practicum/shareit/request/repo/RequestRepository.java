@@ -4,17 +4,41 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.item.ItemResponseDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.RequestResponseDto;
 import ru.practicum.shareit.request.model.Request;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
     List<Request> findAllByUserIdNot(Long userId, Pageable pageable);
 
+    @Query("SELECT new ru.practicum.shareit.request.dto.RequestResponseDto(r.id, r.description, r.created) " +
+            "FROM Request r WHERE r.userId <> :userId")
+    List<RequestResponseDto> findDtosByUserIdNot(@Param("userId") Long userId, Pageable pageable);
+
     @Query("SELECT r FROM Request r WHERE r.userId = :userId ")
     List<Request> findByUserId(@Param("userId") Long userId);
 
+    /**
+     * Fingerprint of {@code GET /requests/{requestId}}: the request and versions of the items answering it.
+     * Empty if the user doesn't exist.
+     */
+    @Query(value = "SELECT CONCAT(r.id, ':', " +
+            "(SELECT CONCAT(COUNT(ri.id), ':', MAX(ri.id), ':', SUM(i.version)) FROM request_item ri " +
+            "JOIN item i ON i.id = ri.item_id WHERE ri.request_id = r.id)) " +
+            "FROM request r WHERE r.id = :requestId AND EXISTS (SELECT 1 FROM users u WHERE u.id = :userId)",
+            nativeQuery = true)
+    Optional<String> findFingerprint(@Param("requestId") Long requestId, @Param("userId") Long userId);
+
     @Query(value = "SELECT i FROM RequestItem ri, Item i WHERE ri.itemId = i.id AND ri.requestId = :requestId")
     List<Item> findItemsByRequestId(@Param("requestId") Long requestId);
+
+    @Query("SELECT new ru.practicum.shareit.item.dto.item.ItemResponseDto(i.id, i.name, i.description, " +
+            "i.available, ri.requestId) FROM RequestItem ri, Item i WHERE ri.itemId = i.id AND " +
+            "ri.requestId IN :requestIds ORDER BY i.id")
+    List<ItemResponseDto> findItemDtosByRequestIds(@Param("requestIds") Collection<Long> requestIds);
 }
@@ -10,6 +10,8 @@ public interface RequestService {
 
     RequestResponseDto findById(Long requestId, Long userId);
 
+    String findETag(Long requestId, Long userId);
+
     List<RequestResponseDto> findByUserId(Long userId);
 
     List<RequestResponseDto> findAllWithPagination(Long userId, int from, int size);
@@ -3,6 +3,9 @@ package ru.practicum.shareit.request.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.common.ETags;
+import ru.practicum.shareit.item.dto.item.ItemResponseDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.RequestMapper;
 import ru.practicum.shareit.request.dto.RequestRequestDto;
@@ -13,18 +16,22 @@ import ru.practicum.shareit.request.repo.RequestRepository;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
     private final UserService userService;
 
     @Override
+    @Transactional
     public RequestResponseDto create(RequestRequestDto requestRequestDto, Long userId) {
         userService.findById(userId);
         Request request = RequestMapper.toRequest(requestRequestDto);
@@ -50,6 +57,11 @@ public class RequestServiceImpl implements RequestService {
         return RequestMapper.toRequestResponseDto(request);
     }
 
+    @Override
+    public String findETag(Long requestId, Long userId) {
+        return ETags.fromFingerprint(requestRepository.findFingerprint(requestId, userId).orElse(null));
+    }
+
     @Override
     public List<RequestResponseDto> findByUserId(Long userId) {
         userService.findById(userId);
@@ -68,13 +80,19 @@ public class RequestServiceImpl implements RequestService {
 
         int page = from / size;
 
-        List<Request> requests = requestRepository.findAllByUserIdNot(userId, PageRequest.of(page, size));
-
-        addItems(requests);
+        List<RequestResponseDto> requests = requestRepository.findDtosByUserIdNot(userId, PageRequest.of(page, size));
+        if (requests.isEmpty()) {
+            return requests;
+        }
 
-        return requests.stream()
-                .map(RequestMapper::toRequestResponseDto)
+        List<Long> requestIds = requests.stream()
+                .map(RequestResponseDto::getId)
                 .collect(Collectors.toList());
+        Map<Long, List<ItemResponseDto>> items = requestRepository.findItemDtosByRequestIds(requestIds).stream()
+                .collect(Collectors.groupingBy(ItemResponseDto::getRequestId));
+        requests.forEach(request -> request.setItems(items.getOrDefault(request.getId(), new ArrayList<>())));
+
+        return requests;
     }
 
     private void addItems(Collection<Request> requests) {
@@ -1,16 +1,22 @@
 package ru.practicum.shareit.user.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnTransformer;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 @Getter
 @Setter
@@ -26,8 +32,26 @@ public class User {
 
     private String email;
 
+    /**
+     * The email lower-cased by the database on every write. Its unique index makes emails unique
+     * case-insensitively while {@link #email} keeps the spelling the user gave.
+     */
+    @Column(name = "email_lower")
+    @ColumnTransformer(write = "LOWER(?)")
+    @Setter(AccessLevel.NONE)
+    private String emailLower;
+
     private String name;
 
+    @Version
+    private long version;
+
+    @PrePersist
+    @PreUpdate
+    private void copyEmailToEmailLower() {
+        emailLower = email;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.user.repo;
+
+import java.util.Optional;
+
+public interface UserInsertRepository {
+    /**
+     * Inserts the user unless the email is taken in any case, in a single statement.
+     *
+     * @return id of the inserted user, or an empty optional if the email already exists
+     */
+    Optional<Long> insertIfEmailAbsent(String name, String email);
+}
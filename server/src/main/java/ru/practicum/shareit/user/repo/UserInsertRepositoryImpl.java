@@ -0,0 +1,31 @@
+package ru.practicum.shareit.user.repo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class UserInsertRepositoryImpl implements UserInsertRepository {
+    private static final String INSERT_IF_EMAIL_ABSENT = "INSERT INTO users (name, email, email_lower) " +
+            "SELECT :name, :email, LOWER(:email) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM users WHERE email_lower = LOWER(:email))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> insertIfEmailAbsent(String name, String email) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("email", email);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        if (jdbcTemplate.update(INSERT_IF_EMAIL_ABSENT, params, keyHolder, new String[]{"id"}) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKeyAs(Long.class));
+    }
+}
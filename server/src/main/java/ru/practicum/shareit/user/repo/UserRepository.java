@@ -1,10 +1,46 @@
 package ru.practicum.shareit.user.repo;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    List<User> findByEmailContainingIgnoreCase(String email);
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface UserRepository extends JpaRepository<User, Long>, UserInsertRepository {
+    String SELECT_RESPONSE_DTO = "SELECT new ru.practicum.shareit.user.dto.UserResponseDto(u.id, u.email, u.name) " +
+            "FROM User u ";
+
+    /**
+     * Rows the JDBC driver fetches per round trip while {@link #streamAllDtos} is consumed.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Finds the user with the email in any case through the unique index on the lower-cased email.
+     */
+    @Query("SELECT u FROM User u WHERE u.emailLower = LOWER(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
+
+    /**
+     * Keyset page of the users following {@code afterId}, so a page costs the same however far the client got.
+     */
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.id > :afterId ORDER BY u.id")
+    List<UserResponseDto> findDtosAfterId(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * All users read through a database cursor. Has to be consumed and closed inside a transaction; the DTOs are
+     * not managed, so the persistence context stays empty however many rows pass.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SELECT_RESPONSE_DTO + "ORDER BY u.id")
+    Stream<UserResponseDto> streamAllDtos();
 }
@@ -5,6 +5,7 @@ import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
     UserResponseDto create(UserRequestDto userRequestDto);
@@ -13,7 +14,12 @@ public interface UserService {
 
     void delete(Long userId);
 
-    List<UserResponseDto> findAll();
+    List<UserResponseDto> findAll(long afterId, int size);
+
+    /**
+     * Passes all users, ordered by id, to the action one by one without collecting them into a list.
+     */
+    void forEach(Consumer<UserResponseDto> action);
 
     UserResponseDto findById(Long userId);
 
@@ -2,7 +2,10 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
@@ -11,39 +14,54 @@ import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repo.UserRepository;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
 
     @Override
+    @Transactional
     public UserResponseDto create(UserRequestDto userRequestDto) {
         User user = UserMapper.toUser(userRequestDto);
-        User createdUser;
+        String email = user.getEmail();
 
+        Optional<Long> id;
         try {
-            createdUser = userRepository.save(user);
-        } catch (DataIntegrityViolationException e) {
-            throw new EmailAlreadyExistsException(String.format("Email %s already exists!", user.getEmail()));
+            id = userRepository.insertIfEmailAbsent(user.getName(), email);
+        } catch (DuplicateKeyException e) {
+            // Only a concurrent insert of the same email gets past the check of the insert itself:
+            // the email index is the only unique key of the table besides the generated id
+            id = Optional.empty();
         }
 
-        return UserMapper.toUserResponseDto(createdUser);
+        return UserResponseDto.builder()
+                .id(id.orElseThrow(() ->
+                        new EmailAlreadyExistsException(String.format("Email %s already exists!", email))))
+                .email(email)
+                .name(user.getName())
+                .build();
     }
 
     @Override
+    @Transactional
     public UserResponseDto update(UserRequestDto userRequestDto, Long userId) {
         User storedUser = getUserByIdOrThrowException(userId);
         User user = UserMapper.toUser(userRequestDto);
         String email = user.getEmail();
 
-        List<User> users = userRepository.findByEmailContainingIgnoreCase(email);
-        if (users != null) {
-            if (users.stream().anyMatch(x -> !Objects.equals(x.getId(), userId))) {
+        if (email != null) {
+            Optional<User> userWithEmail = userRepository.findByEmailIgnoreCase(email);
+            if (userWithEmail.isPresent() && !Objects.equals(userWithEmail.get().getId(), userId)) {
                 throw new EmailAlreadyExistsException(String.format("Email %s already exists!", email));
             }
         }
@@ -59,21 +77,34 @@ public class UserServiceImpl implements UserService {
             storedUser.setEmail(newEmail);
         }
 
-        return UserMapper.toUserResponseDto(userRepository.save(storedUser));
+        try {
+            return UserMapper.toUserResponseDto(userRepository.saveAndFlush(storedUser));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent update to the same email gets past the check above
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            throw new EmailAlreadyExistsException(String.format("Email %s already exists!", email));
+        }
     }
 
     @Override
+    @Transactional
     public void delete(Long userId) {
         User user = getUserByIdOrThrowException(userId);
         userRepository.delete(user);
     }
 
     @Override
-    public List<UserResponseDto> findAll() {
+    public List<UserResponseDto> findAll(long afterId, int size) {
+        return userRepository.findDtosAfterId(afterId, PageRequest.of(0, size));
+    }
 
-        return userRepository.findAll().stream()
-                .map(UserMapper::toUserResponseDto)
-                .collect(Collectors.toList());
+    @Override
+    public void forEach(Consumer<UserResponseDto> action) {
+        try (Stream<UserResponseDto> users = userRepository.streamAllDtos()) {
+            users.forEach(action);
+        }
     }
 
     @Override
@@ -94,4 +125,9 @@ public class UserServiceImpl implements UserService {
             throw new UserNotFoundException(String.format("User with id %d not found", userId));
         }
     }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException && UNIQUE_VIOLATION.equals(((SQLException) cause).getSQLState());
+    }
 }
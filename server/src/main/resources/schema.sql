@@ -1,9 +1,8 @@
 CREATE TABLE IF NOT EXISTS users (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   name VARCHAR(255) NOT NULL,
-  email VARCHAR(255) NOT NULL UNIQUE,
-  CONSTRAINT pk_user PRIMARY KEY (id),
-  CONSTRAINT unique_user_email UNIQUE (email)
+  email VARCHAR(255) NOT NULL,
+  CONSTRAINT pk_user PRIMARY KEY (id)
 );
 
 CREATE TABLE IF NOT EXISTS item (
@@ -55,3 +54,34 @@ CREATE TABLE IF NOT EXISTS request_item (
   CONSTRAINT fk_request_item_request_id FOREIGN KEY(request_id) REFERENCES request (id),
   CONSTRAINT fk_request_item_item_id FOREIGN KEY(item_id) REFERENCES item (id)
 );
+
+CREATE TABLE IF NOT EXISTS schema_migration (
+  name VARCHAR(100) NOT NULL,
+  CONSTRAINT pk_schema_migration PRIMARY KEY (name)
+);
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE item ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE booking ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE item ADD COLUMN IF NOT EXISTS comment_count INT NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_comment_item_created ON comment (item_id, created DESC, id DESC);
+UPDATE item i SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.item_id = i.id)
+  WHERE NOT EXISTS (SELECT 1 FROM schema_migration m WHERE m.name = 'item_comment_count')
+  AND EXISTS (SELECT 1 FROM comment c WHERE c.item_id = i.id);
+INSERT INTO schema_migration (name) SELECT 'item_comment_count'
+  WHERE NOT EXISTS (SELECT 1 FROM schema_migration m WHERE m.name = 'item_comment_count');
+
+CREATE INDEX IF NOT EXISTS idx_booking_booker_item_status_end ON booking (booker_id, item_id, status, end_date);
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS email_lower VARCHAR(255);
+-- Fails on emails that differ only in case: merge or rename those users before upgrading
+UPDATE users SET email_lower = LOWER(email)
+  WHERE NOT EXISTS (SELECT 1 FROM schema_migration m WHERE m.name = 'users_email_lower')
+  AND email_lower IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (email_lower);
+ALTER TABLE users ALTER COLUMN email_lower SET NOT NULL;
+INSERT INTO schema_migration (name) SELECT 'users_email_lower'
+  WHERE NOT EXISTS (SELECT 1 FROM schema_migration m WHERE m.name = 'users_email_lower');
+ALTER TABLE users DROP CONSTRAINT IF EXISTS unique_user_email;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.model.Booking;
@@ -1251,6 +1252,94 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$[0].item.description").value(item1.getDescription()));
     }
 
+    @Test
+    @Order(74)
+    public void shouldReturnOnlyRequestedFieldsOnGetAllForOwner() throws Exception {
+        long userId = 1;
+
+        mockMvc.perform(get(ENDPOINT + "/owner")
+                        .header(USER_HEADER, userId)
+                        .param("state", "ALL")
+                        .param("from", "1")
+                        .param("size", "1")
+                        .param("fields", "id,status,item.id,booker.id"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(booking3.getId()))
+                .andExpect(jsonPath("$[0].status").exists())
+                .andExpect(jsonPath("$[0].start").doesNotExist())
+                .andExpect(jsonPath("$[0].item.id").value(item1.getId()))
+                .andExpect(jsonPath("$[0].item.name").doesNotExist())
+                .andExpect(jsonPath("$[0].item.comments").doesNotExist())
+                .andExpect(jsonPath("$[0].booker.id").value(booking3.getBookerId()))
+                .andExpect(jsonPath("$[0].booker.email").doesNotExist());
+    }
+
+    @Test
+    @Order(75)
+    public void shouldReturnFirstPageOfCommentsForItem2() throws Exception {
+        long userId = 2;
+
+        mockMvc.perform(get("/items/2/comments")
+                        .header(USER_HEADER, userId)
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(1)))
+                .andExpect(jsonPath("$.comments[0].id").value(1))
+                .andExpect(jsonPath("$.comments[0].text").value("Very good item!"))
+                .andExpect(jsonPath("$.comments[0].authorName").value(users.get(0).getName()))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @Order(76)
+    public void shouldReturnBadRequestOnMalformedCommentCursor() throws Exception {
+        long userId = 2;
+
+        mockMvc.perform(get("/items/2/comments")
+                        .header(USER_HEADER, userId)
+                        .param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(77)
+    public void shouldReturnCommentCountForItemsOfUser4() throws Exception {
+        long ownerId = item2.getOwner().getId();
+
+        mockMvc.perform(get("/items").header(USER_HEADER, ownerId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == 2)].commentCount").value(1));
+    }
+
+    @Test
+    @Order(78)
+    public void shouldChangeItem2ETagWhenCommentIsAdded() throws Exception {
+        long userId = 1;
+
+        String eTag = mockMvc.perform(get("/items/2").header(USER_HEADER, userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/items/2/comment")
+                        .header(USER_HEADER, userId)
+                        .contentType(CONTENT_TYPE)
+                        .content("{\"text\": \"Still works fine\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/items/2")
+                        .header(USER_HEADER, userId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(2)))
+                .andExpect(jsonPath("$.comments[0].text").value("Still works fine"));
+    }
+
     private void sendRequestsToCreateEntities() throws Exception {
         users.forEach(this::sendUserToDatabase);
 
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -17,11 +18,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.common.Variables.CONTENT_TYPE;
@@ -614,6 +618,41 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.available").value(available));
     }
 
+    @Test
+    @Order(37)
+    public void shouldReturnNotModifiedForMatchingETag() throws Exception {
+        long itemId = 1L;
+        long ownerId = 1L;
+
+        String eTag = mockMvc.perform(get(ENDPOINT + "/" + itemId)
+                        .header(USER_HEADER, ownerId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(ENDPOINT + "/" + itemId)
+                        .header(USER_HEADER, ownerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch(ENDPOINT + "/" + itemId)
+                        .header(USER_HEADER, ownerId)
+                        .contentType(CONTENT_TYPE)
+                        .content(createJson("Дрель с кейсом", null, null)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(ENDPOINT + "/" + itemId)
+                        .header(USER_HEADER, ownerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.name").value("Дрель с кейсом"));
+    }
+
     private String createJson(Object id, String name, String description, Boolean available) throws JsonProcessingException {
         Map<String, Object> object = createJsonMap(name, description, available);
         object.put("id", id);
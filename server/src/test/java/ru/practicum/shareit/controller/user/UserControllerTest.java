@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,6 +26,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.common.Variables.CONTENT_TYPE;
@@ -273,6 +275,32 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$[2].email").value("info@music.com"));
     }
 
+    @Test
+    @Order(16)
+    public void shouldReturnUsersAfterGivenId() throws Exception {
+        mockMvc.perform(get(ENDPOINT)
+                        .param("afterId", "1")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].name").value("Jason Statham"));
+    }
+
+    @Test
+    @Order(17)
+    public void shouldExportUsersAsNdjson() throws Exception {
+        mockMvc.perform(get(ENDPOINT + "/export"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"email\":\"ceo@it.com\",\"name\":\"Professor Ivanov\"}\n" +
+                        "{\"id\":3,\"email\":\"noone@knows.com\",\"name\":\"Jason Statham\"}\n" +
+                        "{\"id\":4,\"email\":\"info@music.com\",\"name\":\"Lady Gaga\"}\n"));
+    }
+
     @Nested
     @DisplayName("Returns 404 Not Found")
     class ShouldReturnNotFound {
@@ -0,0 +1,168 @@
+package ru.practicum.shareit.integration.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repo.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.comment.CommentRequestDto;
+import ru.practicum.shareit.item.dto.item.ItemResponseDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+import ru.practicum.shareit.user.dto.UserResponseDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts physical connection checkouts per service call. Every service method must run
+ * in a single transaction, so each call is expected to borrow exactly one connection.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@Import(TransactionBoundaryIntegrationTest.ConnectionCountingConfig.class)
+public class TransactionBoundaryIntegrationTest {
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UserResponseDto owner;
+    private UserResponseDto booker;
+    private ItemResponseDto item;
+
+    @BeforeEach
+    public void preparation() {
+        UserRequestDto ownerDto = new UserRequestDto();
+        ownerDto.setName("Steve Wozniak");
+        ownerDto.setEmail("woz@apple.com");
+
+        UserRequestDto bookerDto = new UserRequestDto();
+        bookerDto.setName("Ada Lovelace");
+        bookerDto.setEmail("ada@engine.uk");
+
+        owner = userService.create(ownerDto);
+        booker = userService.create(bookerDto);
+
+        item = itemService.create(Item.builder()
+                .name("Soldering iron")
+                .description("60W with spare tips")
+                .available(true)
+                .build(), owner.getId());
+    }
+
+    @Test
+    public void shouldApproveBookingWithinOneConnection() {
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setItemId(item.getId());
+        bookingRequestDto.setStart(LocalDateTime.now().plusDays(1));
+        bookingRequestDto.setEnd(LocalDateTime.now().plusDays(2));
+        BookingResponseDto booking = bookingService.create(bookingRequestDto, booker.getId());
+
+        int before = connectionCount();
+        bookingService.approve(booking.getId(), owner.getId(), true);
+
+        assertEquals(1, connectionCount() - before);
+    }
+
+    @Test
+    public void shouldAddCommentWithinOneConnection() {
+        bookingRepository.save(Booking.builder()
+                .itemId(item.getId())
+                .bookerId(booker.getId())
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        CommentRequestDto commentRequestDto = new CommentRequestDto();
+        commentRequestDto.setText("Works like a charm");
+
+        int before = connectionCount();
+        itemService.addComment(booker.getId(), item.getId(), commentRequestDto);
+
+        assertEquals(1, connectionCount() - before);
+    }
+
+    @Test
+    public void shouldFindOwnerBookingsWithinOneConnection() {
+        int before = connectionCount();
+        bookingService.findByOwnerIdAndState(owner.getId(), "ALL", 0, 20);
+
+        assertEquals(1, connectionCount() - before);
+    }
+
+    private int connectionCount() {
+        return ((ConnectionCountingDataSource) dataSource).getCount();
+    }
+
+    @TestConfiguration
+    static class ConnectionCountingConfig {
+        @Bean
+        static BeanPostProcessor connectionCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource && !(bean instanceof ConnectionCountingDataSource)) {
+                        return new ConnectionCountingDataSource((DataSource) bean);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class ConnectionCountingDataSource extends DelegatingDataSource {
+        private final AtomicInteger count = new AtomicInteger();
+
+        ConnectionCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        int getCount() {
+            return count.get();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            count.incrementAndGet();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            count.incrementAndGet();
+            return super.getConnection(username, password);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import ru.practicum.shareit.user.exception.EmailAlreadyExistsException;
 import ru.practicum.shareit.user.exception.UserNotFoundException;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -62,6 +63,14 @@ public class UserServiceIntegrationTest {
         assertThrows(EmailAlreadyExistsException.class, () -> userService.create(userRequestDto3));
     }
 
+    @Test
+    public void shouldThrowExceptionWithSameEmailInOtherCase() {
+        userService.create(userRequestDto2);
+        userRequestDto3.setEmail("Arnie@Schwarz.DE");
+
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.create(userRequestDto3));
+    }
+
     @Test
     public void shouldUpdateUser() {
         UserResponseDto createdUser = userService.create(userRequestDto1);
@@ -109,10 +118,28 @@ public class UserServiceIntegrationTest {
         userService.create(userRequestDto1);
         userService.create(userRequestDto2);
 
-        List<UserResponseDto> users = userService.findAll();
+        List<UserResponseDto> users = userService.findAll(0, 100);
 
         assertNotNull(users);
         assertEquals(2, users.size());
+
+        List<UserResponseDto> nextPage = userService.findAll(users.get(0).getId(), 100);
+
+        assertEquals(1, nextPage.size());
+        assertEquals(users.get(1).getId(), nextPage.get(0).getId());
+    }
+
+    @Test
+    public void shouldExportAllUsers() {
+        userService.create(userRequestDto1);
+        userService.create(userRequestDto2);
+
+        List<UserResponseDto> users = new ArrayList<>();
+        userService.forEach(users::add);
+
+        assertEquals(2, users.size());
+        assertEquals(userRequestDto1.getEmail(), users.get(0).getEmail());
+        assertEquals(userRequestDto2.getEmail(), users.get(1).getEmail());
     }
 
     @Test
@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repo.BookingRepository;
@@ -20,7 +21,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static ru.practicum.shareit.common.Variables.SORT_BY_START_DESC;
 
 @DataJpaTest
@@ -168,14 +171,13 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void testFindBookingsByBookerIdAndItemIdAndEndIsBeforeAndStatus() {
-        List<Booking> result = bookingRepository.findByBookerIdAndItemIdAndEndIsBeforeAndStatusOrderById(2L, 1L,
-                LocalDateTime.now().plusDays(1), BookingStatus.APPROVED);
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(2, result.get(0).getBookerId());
-        assertEquals(1, result.get(0).getItemId());
+    public void testExistsBookingByBookerIdAndItemIdAndStatusAndEndIsBefore() {
+        assertTrue(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndIsBefore(2L, 1L,
+                BookingStatus.APPROVED, LocalDateTime.now().plusDays(1)));
+        assertFalse(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndIsBefore(2L, 1L,
+                BookingStatus.REJECTED, LocalDateTime.now().plusDays(1)));
+        assertFalse(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndIsBefore(1L, 1L,
+                BookingStatus.APPROVED, LocalDateTime.now().plusDays(1)));
     }
 
     @Test
@@ -234,6 +236,43 @@ public class BookingRepositoryTest {
         assertEquals(1, result.get(0).getItemId());
     }
 
+    @Test
+    public void testFindBookingDtosByBookerId() {
+        List<BookingResponseDto> result = bookingRepository.findDtosByBookerId(1L, PAGEABLE);
+
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(bookingPast.getId(), result.get(0).getId());
+        assertEquals(2, result.get(0).getItem().getId());
+        assertEquals("Phone", result.get(0).getItem().getName());
+        assertEquals(1, result.get(0).getBooker().getId());
+        assertEquals("Arnold", result.get(0).getBooker().getName());
+    }
+
+    @Test
+    public void testFindBookingDtosByOwnerId() {
+        List<BookingResponseDto> result = bookingRepository.findDtosByOwnerId(user1.getId(), PAGEABLE);
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals(bookingFuture.getId(), result.get(0).getId());
+        assertEquals("Tablet", result.get(0).getItem().getName());
+        assertEquals(bookingCurrent.getId(), result.get(1).getId());
+        assertEquals("Laptop", result.get(1).getItem().getName());
+        assertEquals("bob@yahoo.com", result.get(1).getBooker().getEmail());
+    }
+
+    @Test
+    public void testFindBookingDtosByOwnerIdAndStatus() {
+        List<BookingResponseDto> result = bookingRepository.findDtosByOwnerIdAndStatus(user1.getId(),
+                BookingStatus.APPROVED, PAGEABLE);
+
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(bookingCurrent.getId(), result.get(0).getId());
+        assertEquals(BookingStatus.APPROVED, result.get(0).getStatus());
+    }
+
     @Test
     public void testFindLastBookingByItemId() throws InterruptedException {
         bookingPast.setStatus(BookingStatus.APPROVED);
@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.item.ItemResponseDto;
+import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repo.ItemRepository;
 import ru.practicum.shareit.request.model.Request;
@@ -109,6 +111,18 @@ public class ItemRepositoryTest {
         assertTrue(foundItems.contains(item3));
     }
 
+    @Test
+    public void testFindItemDtosByOwnerId() {
+        List<ItemWithBookingsDto> foundItems = itemRepository.findDtosByOwnerId(user1.getId());
+
+        assertEquals(2, foundItems.size());
+        assertEquals(item1.getId(), foundItems.get(0).getId());
+        assertEquals(item1.getName(), foundItems.get(0).getName());
+        assertEquals(item3.getId(), foundItems.get(1).getId());
+        assertEquals(item3.getDescription(), foundItems.get(1).getDescription());
+        assertTrue(foundItems.get(1).getComments().isEmpty());
+    }
+
     @Test
     public void testSearchItemsByNameOrDescriptionIgnoreCaseAndAvailable() {
         List<Item> foundItems = itemRepository.searchByNameOrDescriptionIgnoreCaseAndAvailable("powerful");
@@ -149,4 +163,24 @@ public class ItemRepositoryTest {
         assertEquals(item3.getName(), result.get(1).getName());
         assertEquals(item3.getDescription(), result.get(1).getDescription());
     }
+
+    @Test
+    public void testFindItemDtosByRequestIds() {
+        requestRepository.saveAll(List.of(request1, request2, request3));
+        itemRepository.saveItemBoundWithRequest(1L, 1L);
+        itemRepository.saveItemBoundWithRequest(2L, 2L);
+        itemRepository.saveItemBoundWithRequest(3L, 2L);
+
+        List<ItemResponseDto> result = requestRepository.findItemDtosByRequestIds(List.of(2L, 3L));
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getId());
+        assertEquals(2, result.get(0).getRequestId());
+        assertEquals(item2.getName(), result.get(0).getName());
+
+        assertEquals(3, result.get(1).getId());
+        assertEquals(2, result.get(1).getRequestId());
+        assertEquals(item3.getName(), result.get(1).getName());
+    }
 }
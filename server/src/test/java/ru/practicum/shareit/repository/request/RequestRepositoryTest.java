@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.request.dto.RequestResponseDto;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.request.repo.RequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -78,6 +79,16 @@ public class RequestRepositoryTest {
          assertEquals(request1.getDescription(), result.get(0).getDescription());
     }
 
+    @Test
+    public void testFindRequestDtosExceptUserId() {
+        List<RequestResponseDto> result = requestRepository.findDtosByUserIdNot(2L, PageRequest.of(0, 10));
+
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(request1.getId(), result.get(0).getId());
+        assertEquals(request1.getDescription(), result.get(0).getDescription());
+    }
+
     @Test
     public void testFindRequestsByUserId() {
         List<Request> result = requestRepository.findByUserId(2L);
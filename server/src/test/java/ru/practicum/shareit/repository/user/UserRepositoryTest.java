@@ -5,11 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repo.UserRepository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -46,20 +51,63 @@ public class UserRepositoryTest {
     }
 
     @Test
-    public void testFindUsersByEmailContainingIgnoreCase() {
-        List<User> foundUsers = userRepository.findByEmailContainingIgnoreCase("mAIl");
+    public void testFindUserByEmail() {
+        Optional<User> foundUser = userRepository.findByEmailIgnoreCase("daniels@mail.ru");
 
-        assertEquals(3, foundUsers.size());
-        assertTrue(foundUsers.contains(user1));
-        assertTrue(foundUsers.contains(user2));
-        assertTrue(foundUsers.contains(user3));
+        assertTrue(foundUser.isPresent());
+        assertEquals(user2, foundUser.get());
     }
 
     @Test
-    public void testFindUsersByEmailContainingIgnoreCase2() {
-        List<User> foundUsers = userRepository.findByEmailContainingIgnoreCase("Ru");
+    public void testFindUserByEmailInOtherCase() {
+        Optional<User> foundUser = userRepository.findByEmailIgnoreCase("Daniels@Mail.RU");
 
-        assertEquals(1, foundUsers.size());
-        assertTrue(foundUsers.contains(user2));
+        assertTrue(foundUser.isPresent());
+        assertEquals("daniels@mail.ru", foundUser.get().getEmail());
+    }
+
+    @Test
+    public void testFindUserByEmailIsExactMatch() {
+        assertTrue(userRepository.findByEmailIgnoreCase("mail.ru").isEmpty());
+        assertTrue(userRepository.findByEmailIgnoreCase("s@mail.ru").isEmpty());
+    }
+
+    @Test
+    public void testInsertUserIfEmailAbsent() {
+        Optional<Long> id = userRepository.insertIfEmailAbsent("Daniel", "Craig@Mail.ru");
+
+        assertTrue(id.isPresent());
+        assertTrue(userRepository.insertIfEmailAbsent("Jack", "Jackie@Mail.ya").isEmpty());
+        assertTrue(userRepository.insertIfEmailAbsent("Daniel", "craig@mail.ru").isEmpty());
+
+        assertEquals(4, userRepository.count());
+        User inserted = userRepository.findByEmailIgnoreCase("craig@mail.ru").orElseThrow();
+        assertEquals(id.get(), inserted.getId());
+        assertEquals("Craig@Mail.ru", inserted.getEmail());
+    }
+
+    @Test
+    public void testFindUserDtosAfterId() {
+        List<UserResponseDto> firstPage = userRepository.findDtosAfterId(0, PageRequest.of(0, 2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(user1.getId(), firstPage.get(0).getId());
+        assertEquals(user2.getEmail(), firstPage.get(1).getEmail());
+
+        List<UserResponseDto> lastPage = userRepository.findDtosAfterId(firstPage.get(1).getId(),
+                PageRequest.of(0, 2));
+
+        assertEquals(1, lastPage.size());
+        assertEquals(user3.getName(), lastPage.get(0).getName());
+    }
+
+    @Test
+    public void testStreamAllUserDtos() {
+        List<Long> ids;
+        try (Stream<UserResponseDto> users = userRepository.streamAllDtos()) {
+            ids = users.map(UserResponseDto::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of(user1.getId(), user2.getId(), user3.getId()), ids);
     }
 }
@@ -16,7 +16,9 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repo.BookingRepository;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.common.Fields;
 import ru.practicum.shareit.item.dto.item.ItemResponseDto;
+import ru.practicum.shareit.item.dto.item.ItemSummary;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.user.dto.UserResponseDto;
@@ -30,6 +32,7 @@ import java.util.Optional;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -62,7 +65,6 @@ class BookingServiceImplTest {
     private BookingRequestDto bookingRequestDto;
     private Booking booking;
     private Booking booking2;
-    private List<Booking> bookings;
     private List<BookingResponseDto> bookingsDto;
     private BookingResponseDto bookingResponseDto;
     private Pageable pageable;
@@ -170,18 +172,20 @@ class BookingServiceImplTest {
                 .status(BookingStatus.WAITING)
                 .build();
 
-        bookings = List.of(booking, booking2);
         bookingsDto = List.of(bookingResponseDto, bookingResponseDto2);
 
         pageable = PageRequest.of(0, 20, SORT_BY_START_DESC);
 
-        when(mockItemService.findById(item.getId())).thenReturn(item);
+        when(mockItemService.findSummaryById(item.getId())).thenReturn(new ItemSummary(item.getId(),
+                owner.getId(), item.getAvailable()));
         when(mockUserService.findUserById(booker.getId())).thenReturn(booker);
         when(mockUserService.findUserById(owner.getId())).thenReturn(owner);
 
         when(mockBookingMapper.toBooking(bookingRequestDto)).thenReturn(booking);
         when(mockBookingMapper.toBookingResponseDto(booking)).thenReturn(bookingResponseDto);
         when(mockBookingMapper.toBookingResponseDto(booking2)).thenReturn(bookingResponseDto2);
+        when(mockBookingMapper.toBookingResponseDto(booking, Fields.ALL)).thenReturn(bookingResponseDto);
+        when(mockBookingMapper.toBookingResponseDto(booking2, Fields.ALL)).thenReturn(bookingResponseDto2);
 
         when(mockBookingRepository.save(Mockito.any(Booking.class))).thenReturn(booking);
         when(mockBookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
@@ -194,7 +198,7 @@ class BookingServiceImplTest {
         assertNotNull(result);
         assertEquals(result, bookingResponseDto);
 
-        verify(mockItemService, times(1)).findById(booking.getItemId());
+        verify(mockItemService, times(1)).findSummaryById(booking.getItemId());
         verify(mockUserService, times(1)).findUserById(booker.getId());
         verify(mockBookingMapper, times(1)).toBooking(bookingRequestDto);
         verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
@@ -209,7 +213,7 @@ class BookingServiceImplTest {
         assertEquals(bookingResponseDto, result);
 
         verify(mockBookingRepository, times(1)).findById(booking.getId());
-        verify(mockItemService, times(1)).findById(booking.getItemId());
+        verify(mockItemService, times(1)).findSummaryById(booking.getItemId());
         verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
         verify(mockBookingRepository, times(1)).save(booking);
     }
@@ -225,8 +229,8 @@ class BookingServiceImplTest {
         assertEquals(bookingResponseDto, result);
 
         verify(mockBookingRepository, times(1)).findById(bookingId);
-        verify(mockItemService, times(1)).findById(booking.getItemId());
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
+        verify(mockItemService, times(1)).findSummaryById(booking.getItemId());
+        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking, Fields.ALL);
     }
 
     @Test
@@ -247,14 +251,12 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "ALL";
 
-        when(mockBookingRepository.findByBookerId(userId, pageable)).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByBookerId(userId, pageable)).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByUserIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByBookerId(userId, pageable);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
+        verify(mockBookingRepository, times(1)).findDtosByBookerId(userId, pageable);
     }
 
     @Test
@@ -264,16 +266,14 @@ class BookingServiceImplTest {
         int from = 0;
         int size = 20;
 
-        when(mockBookingRepository.findByBookerIdAndStartIsAfter(eq(userId), any(LocalDateTime.class), eq(pageable)))
-                .thenReturn(bookings);
+        when(mockBookingRepository.findDtosByBookerIdInFuture(eq(userId), any(LocalDateTime.class), eq(pageable)))
+                .thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByUserIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByBookerIdAndStartIsAfter(eq(userId),
+        verify(mockBookingRepository, times(1)).findDtosByBookerIdInFuture(eq(userId),
                 any(LocalDateTime.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
     }
 
     @Test
@@ -281,16 +281,14 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "PAST";
 
-        when(mockBookingRepository.findByBookerIdAndEndIsBefore(eq(userId), any(LocalDateTime.class), eq(pageable)))
-                .thenReturn(bookings);
+        when(mockBookingRepository.findDtosByBookerIdInPast(eq(userId), any(LocalDateTime.class), eq(pageable)))
+                .thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByUserIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByBookerIdAndEndIsBefore(eq(userId),
+        verify(mockBookingRepository, times(1)).findDtosByBookerIdInPast(eq(userId),
                 any(LocalDateTime.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
     }
 
     @Test
@@ -298,16 +296,14 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "CURRENT";
 
-        when(mockBookingRepository.findByBookerIdAndStartIsBeforeAndEndIsAfter(eq(userId), any(LocalDateTime.class),
-                any(LocalDateTime.class), eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByBookerIdInCurrent(eq(userId), any(LocalDateTime.class),
+                eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByUserIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByBookerIdAndStartIsBeforeAndEndIsAfter(eq(userId),
-                any(LocalDateTime.class), any(LocalDateTime.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
+        verify(mockBookingRepository, times(1)).findDtosByBookerIdInCurrent(eq(userId),
+                any(LocalDateTime.class), eq(pageable));
     }
 
     @Test
@@ -315,16 +311,14 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "WAITING";
 
-        when(mockBookingRepository.findByBookerIdAndStatusOrderByStartDesc(eq(userId), any(BookingStatus.class),
-                eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByBookerIdAndStatus(eq(userId), any(BookingStatus.class),
+                eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByUserIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByBookerIdAndStatusOrderByStartDesc(eq(userId),
+        verify(mockBookingRepository, times(1)).findDtosByBookerIdAndStatus(eq(userId),
                 any(BookingStatus.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
     }
 
     @Test
@@ -332,16 +326,14 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "REJECTED";
 
-        when(mockBookingRepository.findByBookerIdAndStatusOrderByStartDesc(eq(userId), any(BookingStatus.class),
-                eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByBookerIdAndStatus(eq(userId), any(BookingStatus.class),
+                eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByUserIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByBookerIdAndStatusOrderByStartDesc(eq(userId),
+        verify(mockBookingRepository, times(1)).findDtosByBookerIdAndStatus(eq(userId),
                 any(BookingStatus.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
     }
 
     @Test
@@ -349,14 +341,12 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "ALL";
 
-        when(mockBookingRepository.findByOwnerId(owner, pageable)).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByOwnerId(owner.getId(), pageable)).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByOwnerIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByOwnerId(owner, pageable);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
+        verify(mockBookingRepository, times(1)).findDtosByOwnerId(owner.getId(), pageable);
     }
 
     @Test
@@ -364,14 +354,12 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "FUTURE";
 
-        when(mockBookingRepository.findByOwnerIdInFuture(eq(owner), eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByOwnerIdInFuture(eq(owner.getId()), eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByOwnerIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByOwnerIdInFuture(eq(owner), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
+        verify(mockBookingRepository, times(1)).findDtosByOwnerIdInFuture(eq(owner.getId()), eq(pageable));
     }
 
     @Test
@@ -379,14 +367,12 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "PAST";
 
-        when(mockBookingRepository.findByOwnerIdInPast(eq(owner), eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByOwnerIdInPast(eq(owner.getId()), eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByOwnerIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByOwnerIdInPast(eq(owner), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
+        verify(mockBookingRepository, times(1)).findDtosByOwnerIdInPast(eq(owner.getId()), eq(pageable));
     }
 
     @Test
@@ -394,14 +380,12 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "CURRENT";
 
-        when(mockBookingRepository.findByOwnerIdInCurrent(eq(owner), eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByOwnerIdInCurrent(eq(owner.getId()), eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByOwnerIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByOwnerIdInCurrent(eq(owner), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
+        verify(mockBookingRepository, times(1)).findDtosByOwnerIdInCurrent(eq(owner.getId()), eq(pageable));
     }
 
     @Test
@@ -409,16 +393,14 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "WAITING";
 
-        when(mockBookingRepository.findByOwnerIdAndStatus(eq(owner), any(BookingStatus.class),
-                eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByOwnerIdAndStatus(eq(owner.getId()), any(BookingStatus.class),
+                eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByOwnerIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByOwnerIdAndStatus(eq(owner),
+        verify(mockBookingRepository, times(1)).findDtosByOwnerIdAndStatus(eq(owner.getId()),
                 any(BookingStatus.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
     }
 
     @Test
@@ -426,16 +408,14 @@ class BookingServiceImplTest {
         Long userId = 1L;
         String state = "REJECTED";
 
-        when(mockBookingRepository.findByOwnerIdAndStatus(eq(owner), any(BookingStatus.class),
-                eq(pageable))).thenReturn(bookings);
+        when(mockBookingRepository.findDtosByOwnerIdAndStatus(eq(owner.getId()), any(BookingStatus.class),
+                eq(pageable))).thenReturn(bookingsDto);
 
         List<BookingResponseDto> result = bookingService.findByOwnerIdAndState(userId, state, from, size);
 
         commonBookingsDtoAsserts(result);
-        verify(mockBookingRepository, times(1)).findByOwnerIdAndStatus(eq(owner),
+        verify(mockBookingRepository, times(1)).findDtosByOwnerIdAndStatus(eq(owner.getId()),
                 any(BookingStatus.class), eq(pageable));
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking);
-        verify(mockBookingMapper, times(1)).toBookingResponseDto(booking2);
     }
 
     @Test
@@ -470,16 +450,32 @@ class BookingServiceImplTest {
         Long userId = 1L;
         Long itemId = 1L;
 
-        when(mockBookingRepository.findByBookerIdAndItemIdAndEndIsBeforeAndStatusOrderById(eq(userId), eq(itemId),
-                any(LocalDateTime.class), eq(BookingStatus.APPROVED))).thenReturn(bookings);
+        when(mockBookingRepository.existsByBookerIdAndItemIdAndStatusAndEndIsBefore(eq(userId), eq(itemId),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class))).thenReturn(true);
 
         Boolean result = bookingService.hasUserBookedItem(userId, itemId);
 
         assertNotNull(result);
         assertTrue(result);
 
-        verify(mockBookingRepository, times(1)).findByBookerIdAndItemIdAndEndIsBeforeAndStatusOrderById(eq(userId), eq(itemId),
-                any(LocalDateTime.class), eq(BookingStatus.APPROVED));
+        verify(mockBookingRepository, times(1)).existsByBookerIdAndItemIdAndStatusAndEndIsBefore(eq(userId),
+                eq(itemId), eq(BookingStatus.APPROVED), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void shouldRememberOnlyConfirmedBookedItems() {
+        Long userId = 1L;
+        Long itemId = 1L;
+
+        when(mockBookingRepository.existsByBookerIdAndItemIdAndStatusAndEndIsBefore(eq(userId), eq(itemId),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class))).thenReturn(false, true);
+
+        assertFalse(bookingService.hasUserBookedItem(userId, itemId));
+        assertTrue(bookingService.hasUserBookedItem(userId, itemId));
+        assertTrue(bookingService.hasUserBookedItem(userId, itemId));
+
+        verify(mockBookingRepository, times(2)).existsByBookerIdAndItemIdAndStatusAndEndIsBefore(eq(userId),
+                eq(itemId), eq(BookingStatus.APPROVED), any(LocalDateTime.class));
     }
 
     private void commonBookingsDtoAsserts(List<BookingResponseDto> result) {
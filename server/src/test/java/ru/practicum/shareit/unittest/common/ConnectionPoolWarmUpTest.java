@@ -0,0 +1,42 @@
+package ru.practicum.shareit.unittest.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import ru.practicum.shareit.common.datasource.ConnectionPoolWarmUp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConnectionPoolWarmUpTest {
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    public void preparation() {
+        dataSource = new HikariDataSource();
+        dataSource.setPoolName("warm-up-test");
+        dataSource.setJdbcUrl("jdbc:h2:mem:warmup;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMinimumIdle(4);
+        dataSource.setMaximumPoolSize(8);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        dataSource.close();
+    }
+
+    @Test
+    public void shouldOpenMinimumIdleConnectionsAndReturnThem() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("dataSource", dataSource);
+
+        new ConnectionPoolWarmUp(beanFactory.getBeanProvider(HikariDataSource.class))
+                .run(new DefaultApplicationArguments());
+
+        assertEquals(4, dataSource.getHikariPoolMXBean().getTotalConnections());
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+}
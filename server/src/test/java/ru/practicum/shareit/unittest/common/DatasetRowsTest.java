@@ -0,0 +1,104 @@
+package ru.practicum.shareit.unittest.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.common.datagen.DatasetProperties;
+import ru.practicum.shareit.common.datagen.DatasetRows;
+import ru.practicum.shareit.common.datagen.IdOffsets;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = DatasetRowsTest.class)
+public class DatasetRowsTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 1, 1, 12, 0);
+
+    private DatasetProperties properties;
+
+    @BeforeEach
+    public void preparation() {
+        properties = new DatasetProperties();
+        properties.setUsers(100);
+        properties.setItems(1000);
+        properties.setBookings(5000);
+        properties.setRequests(200);
+        properties.setPowerOwners(2);
+        properties.setPowerOwnerItemShare(0.5);
+    }
+
+    @Test
+    public void shouldGiveConfiguredShareOfItemsToPowerOwners() throws IOException {
+        DatasetRows rows = new DatasetRows(properties, IdOffsets.builder().build(), NOW);
+        rows.writeUsers(new StringWriter());
+        StringWriter items = new StringWriter();
+
+        assertEquals(1000, rows.writeItems(items));
+
+        long powerOwned = items.toString().lines()
+                .map(line -> line.substring(line.lastIndexOf(',') + 1))
+                .filter(ownerId -> ownerId.equals("1") || ownerId.equals("2"))
+                .count();
+        assertTrue(powerOwned > 450 && powerOwned < 560, "power-owned items: " + powerOwned);
+    }
+
+    @Test
+    public void shouldNotLetOwnersBookOwnItems() throws IOException {
+        DatasetRows rows = new DatasetRows(properties, IdOffsets.builder().build(), NOW);
+        StringWriter items = new StringWriter();
+        rows.writeItems(items);
+        StringWriter bookings = new StringWriter();
+
+        assertEquals(5000, rows.writeBookings(bookings));
+
+        Map<String, String> itemOwners = new HashMap<>();
+        items.toString().lines().map(line -> line.split(",")).forEach(item -> itemOwners.put(item[0], item[4]));
+        bookings.toString().lines().map(line -> line.split(","))
+                .forEach(booking -> assertNotEquals(itemOwners.get(booking[1]), booking[2]));
+    }
+
+    @Test
+    public void shouldCommentOnlyFinishedApprovedBookingsOfTheBooker() throws IOException {
+        DatasetRows rows = new DatasetRows(properties, IdOffsets.builder().build(), NOW);
+        rows.writeItems(new StringWriter());
+        StringWriter bookings = new StringWriter();
+        rows.writeBookings(bookings);
+        StringWriter comments = new StringWriter();
+
+        long count = rows.writeComments(comments);
+
+        Set<String> commentable = new HashSet<>();
+        bookings.toString().lines().map(line -> line.split(","))
+                .filter(booking -> booking[5].equals("APPROVED") && LocalDateTime.parse(booking[4]).isBefore(NOW))
+                .forEach(booking -> commentable.add(booking[1] + "," + booking[2]));
+        assertTrue(count > 0);
+        comments.toString().lines().map(line -> line.split(","))
+                .forEach(comment -> assertTrue(commentable.contains(comment[1] + "," + comment[2])));
+    }
+
+    @Test
+    public void shouldStartIdsAfterOffsetsAndBeReproducible() throws IOException {
+        IdOffsets offsets = IdOffsets.builder().users(500).items(70).build();
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+
+        DatasetRows rows = new DatasetRows(properties, offsets, NOW);
+        rows.writeItems(first);
+        rows = new DatasetRows(properties, offsets, NOW);
+        rows.writeItems(second);
+
+        assertEquals(first.toString(), second.toString());
+        String firstItem = first.toString().lines().findFirst().orElseThrow();
+        assertTrue(firstItem.startsWith("71,"));
+        assertTrue(Long.parseLong(firstItem.substring(firstItem.lastIndexOf(',') + 1)) > 500);
+    }
+}
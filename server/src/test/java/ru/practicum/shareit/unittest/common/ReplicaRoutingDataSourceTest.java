@@ -0,0 +1,108 @@
+package ru.practicum.shareit.unittest.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.common.datasource.ReplicaLagGuard;
+import ru.practicum.shareit.common.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ReplicaRoutingDataSourceTest.class)
+public class ReplicaRoutingDataSourceTest {
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    public void preparation() throws SQLException {
+        primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+        replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+        execute(primary, "CREATE TABLE IF NOT EXISTS origin (name VARCHAR(16)); DELETE FROM origin; " +
+                "INSERT INTO origin VALUES ('primary')");
+        execute(replica, "CREATE TABLE IF NOT EXISTS origin (name VARCHAR(16)); DELETE FROM origin; " +
+                "INSERT INTO origin VALUES ('replica'); CREATE TABLE IF NOT EXISTS lag (seconds INT); " +
+                "DELETE FROM lag; INSERT INTO lag VALUES (0)");
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void shouldRouteReadOnlyTransactionToReplica() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagGuard());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica", readOrigin(dataSource));
+    }
+
+    @Test
+    public void shouldRouteReadWriteTransactionToPrimary() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagGuard());
+
+        assertEquals("primary", readOrigin(dataSource));
+    }
+
+    @Test
+    public void shouldRouteReadOnlyTransactionToPrimaryWhenReplicaLags() throws SQLException {
+        execute(replica, "UPDATE lag SET seconds = 60");
+        ReplicaLagGuard lagGuard = lagGuard();
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replica, lagGuard);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(lagGuard.isReplicaUsable());
+        assertEquals("primary", readOrigin(dataSource));
+
+        execute(replica, "UPDATE lag SET seconds = 0");
+        lagGuard.check();
+
+        assertTrue(lagGuard.isReplicaUsable());
+        assertEquals("replica", readOrigin(dataSource));
+    }
+
+    @Test
+    public void shouldTreatReplicaAsUsableWhenLagQueryIsBlank() {
+        ReplicaLagGuard lagGuard = new ReplicaLagGuard(replica, "", Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        assertTrue(lagGuard.isReplicaUsable());
+    }
+
+    private ReplicaLagGuard lagGuard() {
+        ReplicaLagGuard lagGuard = new ReplicaLagGuard(replica, "SELECT seconds FROM lag", Duration.ofSeconds(5),
+                Duration.ofSeconds(1));
+        lagGuard.check();
+        return lagGuard;
+    }
+
+    private static void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String readOrigin(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM origin")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
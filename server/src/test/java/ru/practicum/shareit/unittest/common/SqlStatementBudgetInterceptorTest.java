@@ -0,0 +1,89 @@
+package ru.practicum.shareit.unittest.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.common.sql.SqlStatementBudgetInterceptor;
+import ru.practicum.shareit.common.sql.SqlStatementCounter;
+import ru.practicum.shareit.common.sql.SqlStatementCountingInspector;
+import ru.practicum.shareit.common.sql.SqlStatementTimingListener;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = SqlStatementBudgetInterceptorTest.class)
+public class SqlStatementBudgetInterceptorTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementBudgetInterceptor interceptor;
+    private final SqlStatementCountingInspector inspector = new SqlStatementCountingInspector();
+    private final SqlStatementTimingListener listener = new SqlStatementTimingListener();
+
+    @BeforeEach
+    public void preparation() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SqlStatementBudgetInterceptor(meterRegistry, 2);
+    }
+
+    @Test
+    public void shouldRecordStatementsPerUriTemplate() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        inspector.inspect("select * from item where id=?");
+        inspector.inspect("select * from comment where item_id=?");
+        inspector.inspect("select * from users where id=?");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        DistributionSummary summary = meterRegistry.find("shareit.sql.statements")
+                .tag("uri", "/items/{itemId}")
+                .tag("method", "GET")
+                .summary();
+
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+
+    @Test
+    public void shouldTimeOnlyStatementExecutions() throws InterruptedException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        inspector.inspect("select * from item where id=?");
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        Thread.sleep(50);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        Timer timer = meterRegistry.find("shareit.sql.time")
+                .tag("uri", "/items/{itemId}")
+                .tag("method", "GET")
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) < 50);
+    }
+
+    @Test
+    public void shouldNotCountStatementsOutsideOfRequest() {
+        inspector.inspect("select 1");
+
+        assertEquals(0, SqlStatementCounter.current());
+        assertNull(SqlStatementCounter.stop());
+    }
+}
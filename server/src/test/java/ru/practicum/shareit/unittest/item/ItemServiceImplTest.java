@@ -5,11 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.item.dto.comment.CommentCursor;
+import ru.practicum.shareit.item.dto.comment.CommentPageDto;
 import ru.practicum.shareit.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.item.dto.comment.CommentResponseDto;
 import ru.practicum.shareit.item.dto.item.ItemResponseDto;
 import ru.practicum.shareit.item.dto.item.ItemWithBookingsDto;
+import ru.practicum.shareit.item.exception.InvalidCursorException;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repo.CommentRepository;
@@ -25,6 +29,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.times;
@@ -81,6 +87,7 @@ public class ItemServiceImplTest {
 
         when(mockUserService.findUserById(user.getId())).thenReturn(user);
         when(mockItemRepository.findById(item1.getId())).thenReturn(Optional.of(item1));
+        when(mockItemRepository.findWithOwnerById(item1.getId())).thenReturn(Optional.of(item1));
         when(mockItemRepository.save(item1)).thenReturn(item1);
     }
 
@@ -102,7 +109,7 @@ public class ItemServiceImplTest {
         assertEquals(updatedItem1.getId(), result.getId());
         assertEquals(updatedItem1.getName(), result.getName());
 
-        verify(mockItemRepository, times(1)).findById(item1.getId());
+        verify(mockItemRepository, times(1)).findWithOwnerById(item1.getId());
         verify(mockItemRepository, times(1)).save(item1);
     }
 
@@ -116,13 +123,15 @@ public class ItemServiceImplTest {
 
     @Test
     public void shouldFindItemByOwnerId() {
-        List<Item> items = Arrays.asList(item1, item2);
-        when(mockItemRepository.findByOwnerId(user.getId())).thenReturn(items);
+        List<ItemWithBookingsDto> items = Arrays.asList(
+                new ItemWithBookingsDto(item1.getId(), item1.getName(), item1.getDescription(), item1.getAvailable(), 0),
+                new ItemWithBookingsDto(item2.getId(), item2.getName(), item2.getDescription(), item2.getAvailable(), 0));
+        when(mockItemRepository.findDtosByOwnerId(user.getId())).thenReturn(items);
 
         List<ItemWithBookingsDto> result = itemService.findByOwnerId(user.getId());
         assertEquals(items.size(), result.size());
 
-        verify(mockItemRepository, times(1)).findByOwnerId(user.getId());
+        verify(mockItemRepository, times(1)).findDtosByOwnerId(user.getId());
         verify(mockBookingService, times(2)).findLastBookingByItemId(anyLong());
         verify(mockBookingService, times(2)).findNextBookingByItemId(anyLong());
     }
@@ -145,7 +154,7 @@ public class ItemServiceImplTest {
     public void shouldDeleteItem() {
         itemService.delete(item1.getId(), user.getId());
 
-        verify(mockItemRepository, times(1)).findById(item1.getId());
+        verify(mockItemRepository, times(1)).findWithOwnerById(item1.getId());
         verify(mockItemRepository, times(1)).delete(item1);
     }
 
@@ -188,5 +197,49 @@ public class ItemServiceImplTest {
         verify(mockItemRepository, times(1)).findById(item1.getId());
         verify(mockBookingService, times(1)).hasUserBookedItem(user.getId(), item1.getId());
         verify(mockCommentRepository, times(1)).save(any(Comment.class));
+        verify(mockItemRepository, times(1)).incrementCommentCount(item1.getId());
+    }
+
+    @Test
+    public void shouldFindCommentsPageWithNextCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentResponseDto> comments = Arrays.asList(
+                new CommentResponseDto(3L, "Third", "Rob Williams", now),
+                new CommentResponseDto(2L, "Second", "Rob Williams", now.minusHours(1)),
+                new CommentResponseDto(1L, "First", "Rob Williams", now.minusHours(2)));
+
+        when(mockItemRepository.existsById(item1.getId())).thenReturn(true);
+        when(mockCommentRepository.findDtosByItemId(item1.getId(), PageRequest.of(0, 3))).thenReturn(comments);
+
+        CommentPageDto result = itemService.findComments(item1.getId(), null, 2);
+
+        assertEquals(2, result.getComments().size());
+        CommentCursor next = CommentCursor.decode(result.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(now.minusHours(1), next.getCreated());
+    }
+
+    @Test
+    public void shouldFindLastCommentsPageAfterCursor() {
+        LocalDateTime created = LocalDateTime.now().minusHours(1);
+        String cursor = new CommentCursor(created, 2L).encode();
+        List<CommentResponseDto> comments = List.of(
+                new CommentResponseDto(1L, "First", "Rob Williams", created.minusHours(1)));
+
+        when(mockItemRepository.existsById(item1.getId())).thenReturn(true);
+        when(mockCommentRepository.findDtosByItemIdAfter(item1.getId(), created, 2L, PageRequest.of(0, 3)))
+                .thenReturn(comments);
+
+        CommentPageDto result = itemService.findComments(item1.getId(), cursor, 2);
+
+        assertEquals(1, result.getComments().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void shouldThrowExceptionOnInvalidCommentsCursor() {
+        when(mockItemRepository.existsById(item1.getId())).thenReturn(true);
+
+        assertThrows(InvalidCursorException.class, () -> itemService.findComments(item1.getId(), "garbage", 2));
     }
 }
@@ -98,7 +98,8 @@ public class RequestServiceImplTest {
         when(mockRequestRepository.save(any(Request.class))).thenReturn(request1);
         when(mockRequestRepository.findById(request1.getId())).thenReturn(Optional.of(request1));
         when(mockRequestRepository.findByUserId(user.getId())).thenReturn(requests);
-        when(mockRequestRepository.findAllByUserIdNot(eq(user.getId()), any(Pageable.class))).thenReturn(requests);
+        when(mockRequestRepository.findDtosByUserIdNot(eq(user.getId()), any(Pageable.class)))
+                .thenReturn(requestResponseDtos);
     }
 
     @Test
@@ -143,7 +144,8 @@ public class RequestServiceImplTest {
 
         commonRequestAsserts(result);
         verify(mockUserService, times(1)).findById(user.getId());
-        verify(mockRequestRepository, times(1)).findAllByUserIdNot(eq(user.getId()), any(Pageable.class));
+        verify(mockRequestRepository, times(1)).findDtosByUserIdNot(eq(user.getId()), any(Pageable.class));
+        verify(mockRequestRepository, times(1)).findItemDtosByRequestIds(List.of(1L, 2L));
     }
 
     private void commonRequestAsserts(List<RequestResponseDto> result) {
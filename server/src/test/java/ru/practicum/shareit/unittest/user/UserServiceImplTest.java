@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
@@ -14,7 +17,8 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repo.UserRepository;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
-import java.util.Collections;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,7 +65,8 @@ public class UserServiceImplTest {
 
     @Test
     public void shouldCreateUser() {
-        when(mockUserRepository.save(any(User.class))).thenReturn(createdUser);
+        when(mockUserRepository.insertIfEmailAbsent(userRequestDto.getName(), userRequestDto.getEmail()))
+                .thenReturn(Optional.of(createdUser.getId()));
 
         UserResponseDto result = userService.create(userRequestDto);
 
@@ -70,22 +75,45 @@ public class UserServiceImplTest {
         assertEquals(createdUser.getName(), result.getName());
         assertEquals(createdUser.getEmail(), result.getEmail());
 
-        verify(mockUserRepository, times(1)).save(any(User.class));
+        verify(mockUserRepository, times(1)).insertIfEmailAbsent(userRequestDto.getName(),
+                userRequestDto.getEmail());
+        verify(mockUserRepository, never()).findByEmailIgnoreCase(anyString());
+        verify(mockUserRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    public void shouldCreateUserKeepingEmailCase() {
+        userRequestDto.setEmail("MJackson@Gmail.com");
+        when(mockUserRepository.insertIfEmailAbsent(userRequestDto.getName(), "MJackson@Gmail.com"))
+                .thenReturn(Optional.of(createdUser.getId()));
+
+        UserResponseDto result = userService.create(userRequestDto);
+
+        assertEquals("MJackson@Gmail.com", result.getEmail());
+        verify(mockUserRepository, times(1)).insertIfEmailAbsent(userRequestDto.getName(), "MJackson@Gmail.com");
     }
 
     @Test
     public void shouldThrowExceptionWhenEmailAlreadyExists() {
-        when(mockUserRepository.save(any(User.class))).thenThrow(EmailAlreadyExistsException.class);
+        when(mockUserRepository.insertIfEmailAbsent(anyString(), anyString())).thenReturn(Optional.empty());
+
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.create(userRequestDto));
+        verify(mockUserRepository, times(1)).insertIfEmailAbsent(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenEmailIsInsertedConcurrently() {
+        when(mockUserRepository.insertIfEmailAbsent(anyString(), anyString()))
+                .thenThrow(new DuplicateKeyException("duplicate key value violates unique constraint"));
 
         assertThrows(EmailAlreadyExistsException.class, () -> userService.create(userRequestDto));
-        verify(mockUserRepository, times(1)).save(any(User.class));
     }
 
     @Test
     public void shouldUpdateUser() {
         when(mockUserRepository.findById(storedUser.getId())).thenReturn(Optional.of(storedUser));
-        when(mockUserRepository.findByEmailContainingIgnoreCase(anyString())).thenReturn(null);
-        when(mockUserRepository.save(any(User.class))).thenReturn(storedUser);
+        when(mockUserRepository.findByEmailIgnoreCase(anyString())).thenReturn(Optional.empty());
+        when(mockUserRepository.saveAndFlush(any(User.class))).thenReturn(storedUser);
 
         UserResponseDto updatedUserResponseDto = userService.update(userRequestDto, storedUser.getId());
 
@@ -94,8 +122,20 @@ public class UserServiceImplTest {
         assertEquals(userRequestDto.getEmail(), updatedUserResponseDto.getEmail());
 
         verify(mockUserRepository, times(1)).findById(storedUser.getId());
-        verify(mockUserRepository, times(1)).findByEmailContainingIgnoreCase(anyString());
-        verify(mockUserRepository, times(1)).save(any(User.class));
+        verify(mockUserRepository, times(1)).findByEmailIgnoreCase(userRequestDto.getEmail());
+        verify(mockUserRepository, times(1)).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    public void shouldUpdateUserWithItsOwnEmail() {
+        when(mockUserRepository.findById(storedUser.getId())).thenReturn(Optional.of(storedUser));
+        when(mockUserRepository.findByEmailIgnoreCase(anyString())).thenReturn(Optional.of(storedUser));
+        when(mockUserRepository.saveAndFlush(any(User.class))).thenReturn(storedUser);
+
+        UserResponseDto updatedUserResponseDto = userService.update(userRequestDto, storedUser.getId());
+
+        assertNotNull(updatedUserResponseDto);
+        verify(mockUserRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -103,14 +143,34 @@ public class UserServiceImplTest {
         Long userId = 1L;
 
         when(mockUserRepository.findById(userId)).thenReturn(Optional.of(storedUser));
-        when(mockUserRepository.findByEmailContainingIgnoreCase(anyString())).thenReturn(
-                Collections.singletonList(storedUser));
+        when(mockUserRepository.findByEmailIgnoreCase(anyString())).thenReturn(Optional.of(storedUser));
 
         assertThrows(EmailAlreadyExistsException.class, () -> userService.update(userRequestDto, userId));
 
         verify(mockUserRepository, times(1)).findById(userId);
-        verify(mockUserRepository, times(1)).findByEmailContainingIgnoreCase(anyString());
-        verify(mockUserRepository, never()).save(any(User.class));
+        verify(mockUserRepository, times(1)).findByEmailIgnoreCase(anyString());
+        verify(mockUserRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenEmailIsUpdatedConcurrently() {
+        when(mockUserRepository.findById(storedUser.getId())).thenReturn(Optional.of(storedUser));
+        when(mockUserRepository.findByEmailIgnoreCase(anyString())).thenReturn(Optional.empty());
+        when(mockUserRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("Unique index or primary key violation", "23505")));
+
+        assertThrows(EmailAlreadyExistsException.class, () -> userService.update(userRequestDto, storedUser.getId()));
+    }
+
+    @Test
+    public void shouldRethrowOtherIntegrityViolationsOnUpdate() {
+        when(mockUserRepository.findById(storedUser.getId())).thenReturn(Optional.of(storedUser));
+        when(mockUserRepository.findByEmailIgnoreCase(anyString())).thenReturn(Optional.empty());
+        when(mockUserRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("Value too long for column", "22001")));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userService.update(userRequestDto, storedUser.getId()));
     }
 
     @Test
@@ -135,21 +195,28 @@ public class UserServiceImplTest {
 
     @Test
     public void shouldReturnListOfUser() {
-        List<User> userList = List.of(storedUser, createdUser);
+        List<UserResponseDto> userList = List.of(UserMapper.toUserResponseDto(storedUser),
+                UserMapper.toUserResponseDto(createdUser));
+
+        when(mockUserRepository.findDtosAfterId(0L, PageRequest.of(0, 20))).thenReturn(userList);
+        List<UserResponseDto> result = userService.findAll(0L, 20);
 
-        when(mockUserRepository.findAll()).thenReturn(userList);
-        List<UserResponseDto> result = userService.findAll();
+        assertEquals(userList, result);
+        verify(mockUserRepository, times(1)).findDtosAfterId(0L, PageRequest.of(0, 20));
+        verify(mockUserRepository, never()).findAll();
+    }
 
-        assertEquals(userList.size(), result.size());
+    @Test
+    public void shouldPassEveryUserToAction() {
+        List<UserResponseDto> userList = List.of(UserMapper.toUserResponseDto(storedUser),
+                UserMapper.toUserResponseDto(createdUser));
+        List<UserResponseDto> result = new ArrayList<>();
 
-        for (int i = 0; i < userList.size(); i++) {
-            UserResponseDto expected = UserMapper.toUserResponseDto(userList.get(i));
-            UserResponseDto actual = result.get(i);
-            assertEquals(expected.getId(), actual.getId());
-            assertEquals(expected.getName(), actual.getName());
-        }
+        when(mockUserRepository.streamAllDtos()).thenReturn(userList.stream());
+        userService.forEach(result::add);
 
-        verify(mockUserRepository, times(1)).findAll();
+        assertEquals(userList, result);
+        verify(mockUserRepository, times(1)).streamAllDtos();
     }
 
     @Test